@@ -0,0 +1,27 @@
+package com.epam.gymcrm.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+final class NdjsonLines {
+
+    static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private NdjsonLines() {
+    }
+
+    static <T> Consumer<T> writer(ObjectMapper objectMapper, OutputStream out) {
+        return value -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(value));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
@@ -3,24 +3,31 @@ package com.epam.gymcrm.api.controller;
 import com.epam.gymcrm.api.payload.request.*;
 import com.epam.gymcrm.api.payload.response.*;
 import com.epam.gymcrm.domain.service.TraineeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 @RestController
 @RequestMapping(value = "/api/v1/trainees", produces = "application/json")
 @Tag(name = "Trainee", description = "API for managing trainees and their profiles")
 public class TraineeController {
 
     private final TraineeService traineeService;
+    private final ObjectMapper objectMapper;
 
-    public TraineeController(TraineeService traineeService) {
+    public TraineeController(TraineeService traineeService, ObjectMapper objectMapper) {
         this.traineeService = traineeService;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(
@@ -89,6 +96,21 @@ public class TraineeController {
         return ResponseEntity.ok(traineeService.updateTraineeTrainers(request));
     }
 
+    @Operation(
+            summary = "Reassign trainees to another trainer",
+            description = "Moves all or the listed trainees of one trainer to another, e.g. when a coach leaves."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Trainees reassigned"),
+            @ApiResponse(responseCode = "400", description = "Same trainer on both sides"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access"),
+            @ApiResponse(responseCode = "404", description = "Trainer or trainee not found")
+    })
+    @PutMapping("/trainers/reassign")
+    public ResponseEntity<TrainerReassignResponse> reassignTrainer(@RequestBody @Valid TrainerReassignRequest request) {
+        return ResponseEntity.ok(traineeService.reassignTrainer(request));
+    }
+
     @Operation(
             summary = "Get trainee trainings",
             description = "Fetches all training sessions of the trainee, optionally filtered by date, trainer, or training type."
@@ -103,15 +125,45 @@ public class TraineeController {
             @RequestParam(name = "periodFrom", required = false) String periodFrom,
             @RequestParam(name = "periodTo", required = false) String periodTo,
             @RequestParam(name = "trainerName", required = false) String trainerName,
-            @RequestParam(name = "trainingType", required = false) String trainingType
+            @RequestParam(name = "trainingType", required = false) String trainingType,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false) Integer limit
     ) {
         TraineeTrainingsFilter filter = new TraineeTrainingsFilter(
-                username, periodFrom, periodTo, trainerName, trainingType
+                username, periodFrom, periodTo, trainerName, trainingType, cursor, limit
         );
 
         return ResponseEntity.ok(traineeService.getTraineeTrainings(filter));
     }
 
+    @Operation(
+            summary = "Stream trainee trainings",
+            description = "Streams all matching training sessions as newline-delimited JSON, ordered by training date."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Trainings streamed successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access")
+    })
+    @GetMapping(value = "/trainings", produces = NdjsonLines.MEDIA_TYPE)
+    public void streamTraineeTrainings(
+            @RequestParam(name = "username") String username,
+            @RequestParam(name = "periodFrom", required = false) String periodFrom,
+            @RequestParam(name = "periodTo", required = false) String periodTo,
+            @RequestParam(name = "trainerName", required = false) String trainerName,
+            @RequestParam(name = "trainingType", required = false) String trainingType,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            HttpServletResponse response
+    ) throws IOException {
+        TraineeTrainingsFilter filter = new TraineeTrainingsFilter(
+                username, periodFrom, periodTo, trainerName, trainingType, cursor, null
+        );
+
+        response.setContentType(NdjsonLines.MEDIA_TYPE);
+        OutputStream out = response.getOutputStream();
+        traineeService.streamTraineeTrainings(filter, NdjsonLines.writer(objectMapper, out));
+        out.flush();
+    }
+
     @Operation(
             summary = "Update trainee active status",
             description = "Activates or deactivates the trainee based on provided status."
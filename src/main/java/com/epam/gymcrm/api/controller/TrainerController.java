@@ -9,24 +9,31 @@ import com.epam.gymcrm.api.payload.response.TrainerRegistrationResponse;
 import com.epam.gymcrm.api.payload.response.TrainerTrainingsListResponse;
 import com.epam.gymcrm.api.payload.response.UpdateTrainerProfileResponse;
 import com.epam.gymcrm.domain.service.TrainerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 @RestController
 @RequestMapping(value = "/api/v1/trainers", produces = "application/json")
 @Tag(name = "Trainer", description = "API for managing trainers and their trainings")
 public class TrainerController {
 
     private final TrainerService trainerService;
+    private final ObjectMapper objectMapper;
 
-    public TrainerController(TrainerService trainerService) {
+    public TrainerController(TrainerService trainerService, ObjectMapper objectMapper) {
         this.trainerService = trainerService;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(
@@ -82,14 +89,43 @@ public class TrainerController {
             @RequestParam("username") String username,
             @RequestParam(value = "periodFrom", required = false) String periodFrom,
             @RequestParam(value = "periodTo", required = false) String periodTo,
-            @RequestParam(value = "traineeName", required = false) String traineeName
+            @RequestParam(value = "traineeName", required = false) String traineeName,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit
     ) {
         TrainerTrainingsFilter filter = new TrainerTrainingsFilter(
-                username, periodFrom, periodTo, traineeName
+                username, periodFrom, periodTo, traineeName, cursor, limit
         );
         return ResponseEntity.ok(trainerService.getTrainerTrainings(filter));
     }
 
+    @Operation(
+            summary = "Stream trainer's trainings",
+            description = "Streams all matching training sessions as newline-delimited JSON, ordered by training date."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Trainings streamed successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access")
+    })
+    @GetMapping(value = "/trainings", produces = NdjsonLines.MEDIA_TYPE)
+    public void streamTrainerTrainings(
+            @RequestParam("username") String username,
+            @RequestParam(value = "periodFrom", required = false) String periodFrom,
+            @RequestParam(value = "periodTo", required = false) String periodTo,
+            @RequestParam(value = "traineeName", required = false) String traineeName,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            HttpServletResponse response
+    ) throws IOException {
+        TrainerTrainingsFilter filter = new TrainerTrainingsFilter(
+                username, periodFrom, periodTo, traineeName, cursor, null
+        );
+
+        response.setContentType(NdjsonLines.MEDIA_TYPE);
+        OutputStream out = response.getOutputStream();
+        trainerService.streamTrainerTrainings(filter, NdjsonLines.writer(objectMapper, out));
+        out.flush();
+    }
+
     @Operation(
             summary = "Update trainer active status",
             description = "Activates or deactivates the trainer account"
@@ -1,27 +1,37 @@
 package com.epam.gymcrm.api.controller;
 
 import com.epam.gymcrm.api.payload.request.AddTrainingRequest;
+import com.epam.gymcrm.api.payload.request.TrainingImportFormat;
+import com.epam.gymcrm.api.payload.response.TrainingImportResponse;
+import com.epam.gymcrm.domain.service.TrainingImportService;
 import com.epam.gymcrm.domain.service.TrainingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("/api/v1/trainings")
 @Tag(name = "Training", description = "API for managing training sessions")
 public class TrainingController {
 
     private final TrainingService trainingService;
+    private final TrainingImportService trainingImportService;
 
-    public TrainingController(TrainingService trainingService) {
+    public TrainingController(TrainingService trainingService, TrainingImportService trainingImportService) {
         this.trainingService = trainingService;
+        this.trainingImportService = trainingImportService;
     }
 
     @Operation(
@@ -39,5 +49,22 @@ public class TrainingController {
         return ResponseEntity.ok().build();
     }
 
-
+    @Operation(
+            summary = "Bulk import training sessions",
+            description = "Streams NDJSON (one AddTrainingRequest per line) or CSV with a header line and imports it in chunks. " +
+                    "Invalid rows are reported individually and do not abort the import."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed, see per-row errors"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format or missing CSV header"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access")
+    })
+    @PostMapping(value = "/import",
+            consumes = {"application/x-ndjson", "text/csv"},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TrainingImportResponse> importTrainings(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                                  InputStream body) {
+        TrainingImportFormat format = TrainingImportFormat.fromContentType(contentType);
+        return ResponseEntity.ok(trainingImportService.importTrainings(body, format));
+    }
 }
@@ -6,20 +6,28 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+
 @RestController
 @RequestMapping("/api/v1/training-types")
 @Tag(name = "Training Types", description = "API for listing available training types")
 public class TrainingTypeController {
 
     private final TrainingTypeService trainingTypeService;
+    private final CacheControl cacheControl;
 
-    public TrainingTypeController(TrainingTypeService trainingTypeService) {
+    public TrainingTypeController(
+            TrainingTypeService trainingTypeService,
+            @Value("${training.types.cache-max-age-seconds:300}") long cacheMaxAgeSeconds) {
         this.trainingTypeService = trainingTypeService;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheMaxAgeSeconds)).cachePublic();
     }
 
     @Operation(
@@ -27,11 +35,17 @@ public class TrainingTypeController {
             description = "Retrieves a list of all available training types such as Cardio, Strength, etc."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Training types retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Training types retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Training types unchanged since the given ETag")
     })
     @GetMapping
     public ResponseEntity<TrainingTypeListResponse> getAll() {
-        return ResponseEntity.ok(trainingTypeService.findAllTrainingTypes());
+        // Spring answers 304 itself when If-None-Match matches the ETag
+        TrainingTypeService.Snapshot snapshot = trainingTypeService.getSnapshot();
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(cacheControl)
+                .body(snapshot.trainingTypes());
     }
 
 }
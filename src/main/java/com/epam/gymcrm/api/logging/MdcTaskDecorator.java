@@ -0,0 +1,39 @@
+package com.epam.gymcrm.api.logging;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Carries the submitting thread's MDC, and with it the transactionId, into tasks run on
+ * {@code applicationTaskExecutor}; Spring Boot applies a single TaskDecorator bean to that executor.
+ */
+@Component
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            // Pool threads are reused, so restore whatever the worker had before
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContext(context);
+            try {
+                runnable.run();
+            } finally {
+                setContext(previous);
+            }
+        };
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (Objects.isNull(context)) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -4,23 +4,42 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
 @Component
 public class RestLoggingInterceptor implements HandlerInterceptor {
 
     private static final Logger logger = LoggerFactory.getLogger(RestLoggingInterceptor.class);
 
+    private static final String SAMPLED = RestLoggingInterceptor.class.getName() + ".sampled";
+
+    private final double sampleRate;
+
+    public RestLoggingInterceptor(@Value("${logging.request.sample-rate:1.0}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        logger.info("Incoming request: method={}, uri={}, params={}",
-                request.getMethod(), request.getRequestURI(), request.getQueryString());
+        if (logger.isInfoEnabled() && (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            request.setAttribute(SAMPLED, Boolean.TRUE);
+            logger.info("Incoming request: method={}, uri={}, params={}",
+                    request.getMethod(), request.getRequestURI(), request.getQueryString());
+        }
         return true;
     }
 
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
-        logger.info("Completed request: status={}, uri={}", response.getStatus(), request.getRequestURI());
+        // Failures are logged even when the request was not sampled
+        boolean failed = Objects.nonNull(ex) || response.getStatus() >= 500;
+        if (Objects.nonNull(request.getAttribute(SAMPLED)) || (failed && logger.isInfoEnabled())) {
+            logger.info("Completed request: status={}, uri={}", response.getStatus(), request.getRequestURI());
+        }
     }
 }
@@ -1,26 +1,98 @@
 package com.epam.gymcrm.api.logging;
 
 import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.util.Objects;
 
+/**
+ * Puts a correlation ID for the request into the {@code transactionId} MDC entry and request
+ * attribute, and returns it in the {@code X-Request-Id} response header. The ID is the trace-id of
+ * a valid W3C {@code traceparent} header, else a well-formed {@code X-Request-Id}, else generated.
+ * Runs first so the security filters log with the ID as well.
+ */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class TransactionIdFilter implements Filter {
 
     private static final String TRANSACTION_ID = "transactionId";
 
+    static final String TRACEPARENT_HEADER = "traceparent";
+    static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    // Longer or stranger client IDs are replaced rather than written into every log line
+    private static final int MAX_REQUEST_ID_LENGTH = 128;
+
     @Override
     public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
         try {
-            String transactionId = UUID.randomUUID().toString();
+            String transactionId = req instanceof HttpServletRequest request ? incomingId(request) : null;
+            if (Objects.isNull(transactionId)) {
+                transactionId = TransactionIdGenerator.next();
+            }
             req.setAttribute(TRANSACTION_ID, transactionId);
             MDC.put(TRANSACTION_ID, transactionId);
+            if (res instanceof HttpServletResponse response) {
+                response.setHeader(REQUEST_ID_HEADER, transactionId);
+            }
             chain.doFilter(req, res);
         } finally {
             MDC.remove(TRANSACTION_ID);
         }
     }
+
+    private static String incomingId(HttpServletRequest request) {
+        String traceId = traceId(request.getHeader(TRACEPARENT_HEADER));
+        if (Objects.nonNull(traceId)) return traceId;
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        return isValidRequestId(requestId) ? requestId : null;
+    }
+
+    // version "-" trace-id "-" parent-id "-" flags, e.g. 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01
+    static String traceId(String traceparent) {
+        if (Objects.isNull(traceparent) || traceparent.length() < 55) return null;
+        if (traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-') return null;
+        if (!isLowerHex(traceparent, 0, 2) || traceparent.startsWith("ff")) return null;
+        // Version 00 has exactly four fields, later versions may append more after another dash
+        if (traceparent.startsWith("00") && traceparent.length() != 55) return null;
+        if (traceparent.length() > 55 && traceparent.charAt(55) != '-') return null;
+        if (!isLowerHex(traceparent, 3, 35) || !isLowerHex(traceparent, 36, 52) || !isLowerHex(traceparent, 53, 55)) {
+            return null;
+        }
+        String traceId = traceparent.substring(3, 35);
+        if (isZeros(traceId) || isZeros(traceparent.substring(36, 52))) return null;
+        return traceId;
+    }
+
+    static boolean isValidRequestId(String requestId) {
+        if (Objects.isNull(requestId) || requestId.isEmpty() || requestId.length() > MAX_REQUEST_ID_LENGTH) return false;
+        for (int i = 0; i < requestId.length(); i++) {
+            char c = requestId.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == ':';
+            if (!allowed) return false;
+        }
+        return true;
+    }
+
+    private static boolean isLowerHex(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isZeros(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) != '0') return false;
+        }
+        return true;
+    }
 }
@@ -0,0 +1,24 @@
+package com.epam.gymcrm.api.logging;
+
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Time-ordered 128-bit request IDs as 32 lowercase hex characters: 48 bits of epoch milliseconds
+ * followed by 80 random bits. The shape is a valid W3C trace-id, so generated and propagated IDs
+ * look alike in the logs. Uses {@link ThreadLocalRandom} instead of {@code UUID.randomUUID()},
+ * whose shared SecureRandom contends under load; these IDs correlate logs and are not secrets.
+ */
+public final class TransactionIdGenerator {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private TransactionIdGenerator() {
+    }
+
+    public static String next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = (System.currentTimeMillis() << 16) | (random.nextInt() & 0xFFFF);
+        return HEX.toHexDigits(high).concat(HEX.toHexDigits(random.nextLong()));
+    }
+}
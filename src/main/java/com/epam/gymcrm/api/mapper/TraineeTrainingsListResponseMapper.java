@@ -3,6 +3,7 @@ package com.epam.gymcrm.api.mapper;
 import com.epam.gymcrm.api.payload.response.TraineeTrainingInfo;
 import com.epam.gymcrm.api.payload.response.TraineeTrainingsListResponse;
 import com.epam.gymcrm.db.entity.TrainingEntity;
+import com.epam.gymcrm.db.repository.projection.TraineeTrainingView;
 
 import java.util.List;
 
@@ -16,6 +17,23 @@ public class TraineeTrainingsListResponseMapper {
 
     }
 
+    public static TraineeTrainingsListResponse toTraineeTrainingsListResponse(List<TraineeTrainingView> views, String nextCursor) {
+        List<TraineeTrainingInfo> infos = views.stream()
+                .map(TraineeTrainingsListResponseMapper::toTraineeTrainingInfo)
+                .toList();
+        return new TraineeTrainingsListResponse(infos, nextCursor);
+    }
+
+    public static TraineeTrainingInfo toTraineeTrainingInfo(TraineeTrainingView view) {
+        return new TraineeTrainingInfo(
+                view.trainingName(),
+                view.trainingDate() != null ? view.trainingDate().toString() : null,
+                view.trainingTypeName(),
+                view.trainingDuration(),
+                view.trainerFirstName() + " " + view.trainerLastName()
+        );
+    }
+
     public static TraineeTrainingInfo toTraineeTrainingInfo(TrainingEntity training) {
         return new TraineeTrainingInfo(
                 training.getTrainingName(),
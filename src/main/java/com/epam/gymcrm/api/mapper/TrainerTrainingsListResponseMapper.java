@@ -3,6 +3,7 @@ package com.epam.gymcrm.api.mapper;
 import com.epam.gymcrm.api.payload.response.TrainerTrainingInfo;
 import com.epam.gymcrm.api.payload.response.TrainerTrainingsListResponse;
 import com.epam.gymcrm.db.entity.TrainingEntity;
+import com.epam.gymcrm.db.repository.projection.TrainerTrainingView;
 
 import java.util.List;
 import java.util.Objects;
@@ -24,6 +25,16 @@ public class TrainerTrainingsListResponseMapper {
         );
     }
 
+    public static TrainerTrainingInfo toTrainerTrainingInfo(TrainerTrainingView view) {
+        return new TrainerTrainingInfo(
+                view.trainingName(),
+                Objects.nonNull(view.trainingDate()) ? view.trainingDate().toString() : null,
+                view.trainingTypeName(),
+                view.trainingDuration(),
+                view.traineeFirstName() + " " + view.traineeLastName()
+        );
+    }
+
     public static TrainerTrainingsListResponse toTrainerTrainingsListResponse(List<TrainingEntity> trainings) {
         List<TrainerTrainingInfo> infoList = trainings.stream()
                 .filter(Objects::nonNull)
@@ -31,4 +42,11 @@ public class TrainerTrainingsListResponseMapper {
                 .collect(Collectors.toList());
         return new TrainerTrainingsListResponse(infoList);
     }
+
+    public static TrainerTrainingsListResponse toTrainerTrainingsListResponse(List<TrainerTrainingView> views, String nextCursor) {
+        List<TrainerTrainingInfo> infoList = views.stream()
+                .map(TrainerTrainingsListResponseMapper::toTrainerTrainingInfo)
+                .collect(Collectors.toList());
+        return new TrainerTrainingsListResponse(infoList, nextCursor);
+    }
 }
@@ -0,0 +1,91 @@
+package com.epam.gymcrm.api.mapper;
+
+import com.epam.gymcrm.api.payload.request.AddTrainingRequest;
+import com.epam.gymcrm.domain.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class TrainingImportRowMapper {
+
+    public static final List<String> CSV_COLUMNS = List.of(
+            "traineeUsername", "trainerUsername", "trainingName", "trainingDate", "trainingDuration");
+
+    public static AddTrainingRequest fromNdjson(String line, ObjectMapper objectMapper) {
+        try {
+            return objectMapper.readValue(line, AddTrainingRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Malformed JSON row: " + e.getOriginalMessage());
+        }
+    }
+
+    public static Map<String, Integer> csvColumns(String header) {
+        if (Objects.isNull(header) || header.isBlank()) {
+            throw new BadRequestException("CSV import requires a header line: " + String.join(",", CSV_COLUMNS));
+        }
+        List<String> names = splitCsv(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i), i);
+        }
+        for (String column : CSV_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new BadRequestException("CSV header is missing column: " + column);
+            }
+        }
+        return columns;
+    }
+
+    public static AddTrainingRequest fromCsv(String line, Map<String, Integer> columns) {
+        List<String> values = splitCsv(line);
+        String duration = value(values, columns, "trainingDuration");
+        Integer trainingDuration;
+        try {
+            trainingDuration = Objects.isNull(duration) ? null : Integer.valueOf(duration);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid trainingDuration: " + duration);
+        }
+        return new AddTrainingRequest(
+                value(values, columns, "traineeUsername"),
+                value(values, columns, "trainerUsername"),
+                value(values, columns, "trainingName"),
+                value(values, columns, "trainingDate"),
+                trainingDuration
+        );
+    }
+
+    private static String value(List<String> values, Map<String, Integer> columns, String column) {
+        int index = columns.get(column);
+        if (index >= values.size() || values.get(index).isEmpty()) return null;
+        return values.get(index);
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                values.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString().trim());
+        return values;
+    }
+}
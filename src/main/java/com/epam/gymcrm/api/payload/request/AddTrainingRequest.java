@@ -3,6 +3,7 @@ package com.epam.gymcrm.api.payload.request;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 
 @Schema(description = "Request object for adding a new training session")
 public record AddTrainingRequest(
@@ -24,6 +25,7 @@ public record AddTrainingRequest(
 
         @Schema(description = "Duration of the training in minutes", example = "60")
         @NotNull(message = "Training duration must not be null")
+        @PositiveOrZero(message = "Training duration must not be negative")
         Integer trainingDuration
 ) {
 }
@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 
+import java.util.Objects;
+
 @Schema(description = "Filter object for fetching trainee trainings")
 public record TraineeTrainingsFilter(
         @Schema(description = "Username of the trainee", example = "john_doe")
@@ -22,6 +24,20 @@ public record TraineeTrainingsFilter(
         String trainerName,
 
         @Schema(description = "Filter by training type", example = "Strength")
-        String trainingType
+        String trainingType,
+
+        @Schema(description = "Cursor returned as nextCursor by the previous page", example = "MjAyNS0wOC0yMlQxODowMHw0Mg")
+        String cursor,
+
+        @Schema(description = "Page size for keyset pagination (default 50, max 500)", example = "50")
+        Integer limit
 ) {
+
+    public TraineeTrainingsFilter(String username, String periodFrom, String periodTo, String trainerName, String trainingType) {
+        this(username, periodFrom, periodTo, trainerName, trainingType, null, null);
+    }
+
+    public boolean isPaged() {
+        return Objects.nonNull(cursor) || Objects.nonNull(limit);
+    }
 }
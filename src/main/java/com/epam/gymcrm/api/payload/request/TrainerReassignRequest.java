@@ -0,0 +1,22 @@
+package com.epam.gymcrm.api.payload.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.List;
+
+@Schema(description = "Request to move trainees from one trainer to another")
+public record TrainerReassignRequest(
+
+        @Schema(description = "Username of the trainer whose trainees are moved", example = "trainer_ahmet")
+        @NotBlank
+        String fromTrainerUsername,
+
+        @Schema(description = "Username of the trainer taking them over", example = "trainer_ayse")
+        @NotBlank
+        String toTrainerUsername,
+
+        @Schema(description = "Trainees to move; all trainees of the first trainer when omitted")
+        List<@NotBlank String> traineeUsernames
+) {
+}
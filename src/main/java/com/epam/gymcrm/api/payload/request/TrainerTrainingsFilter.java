@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 
+import java.util.Objects;
+
 @Schema(description = "Filter object for fetching trainer trainings")
 public record TrainerTrainingsFilter(
         @Schema(description = "Username of the trainer", example = "trainer_ahmet")
@@ -19,6 +21,20 @@ public record TrainerTrainingsFilter(
         String periodTo,
 
         @Schema(description = "Filter by trainee name", example = "John Trainee")
-        String traineeName
+        String traineeName,
+
+        @Schema(description = "Cursor returned as nextCursor by the previous page", example = "MjAyNS0wOC0yMlQxODowMHw0Mg")
+        String cursor,
+
+        @Schema(description = "Page size for keyset pagination (default 50, max 500)", example = "50")
+        Integer limit
 ) {
+
+    public TrainerTrainingsFilter(String username, String periodFrom, String periodTo, String traineeName) {
+        this(username, periodFrom, periodTo, traineeName, null, null);
+    }
+
+    public boolean isPaged() {
+        return Objects.nonNull(cursor) || Objects.nonNull(limit);
+    }
 }
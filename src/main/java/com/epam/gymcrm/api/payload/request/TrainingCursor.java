@@ -0,0 +1,44 @@
+package com.epam.gymcrm.api.payload.request;
+
+import com.epam.gymcrm.domain.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Opaque keyset position (trainingDate, id) of the last training returned on a page.
+ */
+public record TrainingCursor(LocalDateTime trainingDate, Long id) {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    public String encode() {
+        String raw = trainingDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TrainingCursor decode(String cursor) {
+        if (Objects.isNull(cursor) || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new TrainingCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public static int resolveLimit(Integer limit) {
+        if (Objects.isNull(limit)) return DEFAULT_PAGE_SIZE;
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException(String.format("limit must be between 1 and %d", MAX_PAGE_SIZE));
+        }
+        return limit;
+    }
+}
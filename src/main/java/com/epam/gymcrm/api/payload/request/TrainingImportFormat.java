@@ -0,0 +1,33 @@
+package com.epam.gymcrm.api.payload.request;
+
+import com.epam.gymcrm.domain.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+import java.util.Objects;
+
+public enum TrainingImportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson")),
+    CSV(MediaType.parseMediaType("text/csv"));
+
+    private final MediaType mediaType;
+
+    TrainingImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static TrainingImportFormat fromContentType(String contentType) {
+        if (Objects.nonNull(contentType)) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (TrainingImportFormat format : values()) {
+                if (format.mediaType.isCompatibleWith(requested)) {
+                    return format;
+                }
+            }
+        }
+        throw new BadRequestException("Unsupported import content type: " + contentType);
+    }
+}
@@ -0,0 +1,7 @@
+package com.epam.gymcrm.api.payload.request;
+
+public record TrainingImportRow(
+        int line,
+        AddTrainingRequest request
+) {
+}
@@ -0,0 +1,10 @@
+package com.epam.gymcrm.api.payload.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result of moving trainees between trainers")
+public record TrainerReassignResponse(
+        @Schema(description = "Number of trainees moved to the new trainer", example = "42")
+        int reassignedTrainees
+) {
+}
@@ -1,5 +1,6 @@
 package com.epam.gymcrm.api.payload.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
@@ -7,6 +8,14 @@ import java.util.List;
 @Schema(description = "Response listing all trainings conducted by a trainer")
 public record TrainerTrainingsListResponse(
         @Schema(description = "List of trainings")
-        List<TrainerTrainingInfo> trainings
+        List<TrainerTrainingInfo> trainings,
+
+        @Schema(description = "Cursor of the next page; absent on the last page or when pagination is not requested")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCursor
 ) {
+
+    public TrainerTrainingsListResponse(List<TrainerTrainingInfo> trainings) {
+        this(trainings, null);
+    }
 }
@@ -0,0 +1,21 @@
+package com.epam.gymcrm.api.payload.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Summary of a bulk training import")
+public record TrainingImportResponse(
+        @Schema(description = "Number of data rows read from the upload", example = "1200")
+        int totalRows,
+
+        @Schema(description = "Number of trainings created", example = "1187")
+        int importedRows,
+
+        @Schema(description = "Number of rejected rows", example = "13")
+        int failedRows,
+
+        @Schema(description = "Rejected rows with the reason for each")
+        List<TrainingImportRowError> errors
+) {
+}
@@ -0,0 +1,13 @@
+package com.epam.gymcrm.api.payload.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A row rejected during a bulk training import")
+public record TrainingImportRowError(
+        @Schema(description = "Line number of the row in the uploaded file", example = "17")
+        int line,
+
+        @Schema(description = "Reason the row was rejected", example = "Trainer not found: jane.smith")
+        String message
+) {
+}
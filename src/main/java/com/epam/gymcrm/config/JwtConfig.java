@@ -1,5 +1,7 @@
 package com.epam.gymcrm.config;
 
+import com.epam.gymcrm.infrastructure.security.CachingJwtDecoder;
+import com.epam.gymcrm.infrastructure.security.VerifiedJwtCache;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -26,10 +28,10 @@ public class JwtConfig {
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
+    public JwtDecoder jwtDecoder(VerifiedJwtCache verifiedJwtCache) {
         SecretKey key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
         NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(key).build();
         decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuer));
-        return decoder;
+        return new CachingJwtDecoder(decoder, verifiedJwtCache);
     }
 }
@@ -0,0 +1,105 @@
+package com.epam.gymcrm.config;
+
+import com.epam.gymcrm.infrastructure.datasource.ReadReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sends read-only transactions to the replicas in {@code datasource.replicas.urls} and everything
+ * else to the primary. Without replica URLs this configuration is skipped and Spring Boot builds
+ * the usual single pool.
+ * <p>
+ * The choice is made when a transaction first touches the database: the lazy proxy defers the
+ * borrow until the transaction's read-only flag is known.
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replicas.urls:}'.isBlank()")
+public class ReadReplicaConfig {
+
+    @Value("${datasource.replicas.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${datasource.replicas.maximum-pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${datasource.replicas.connection-timeout-ms:1000}")
+    private long replicaConnectionTimeoutMs;
+
+    @Value("${datasource.replicas.max-lag-seconds:5}")
+    private long maxLagSeconds;
+
+    @Value("${datasource.replicas.probe-seconds:2}")
+    private long probeSeconds;
+
+    @Value("${datasource.replicas.lag-query:}")
+    private String lagQuery;
+
+    // Same binding Spring Boot applies to its own pool, so spring.datasource.hikari.* still applies
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(HikariDataSource primaryDataSource, MeterRegistry registry) {
+        List<ReadReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = Objects.requireNonNullElse(primaryDataSource.getPoolName(), "pool") + "-replica-" + (i + 1);
+            replicas.add(new ReadReplicaRoutingDataSource.Replica(name,
+                    replicaPool(primaryDataSource, name, replicaUrls.get(i).trim(), registry)));
+        }
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicas, registry,
+                lagQuery.isBlank() ? ReadReplicaRoutingDataSource.POSTGRES_LAG_QUERY : lagQuery,
+                Duration.ofSeconds(maxLagSeconds), Duration.ofSeconds(probeSeconds));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    // Hibernate would otherwise keep the first connection of an open-in-view request for the whole
+    // request, so every later transaction would run where the first one was routed
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    private HikariDataSource replicaPool(HikariDataSource primary, String name, String url, MeterRegistry registry) {
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setMaximumPoolSize(replicaPoolSize);
+        config.setMinimumIdle(Math.min(config.getMinimumIdle(), replicaPoolSize));
+        // A slow replica should fall back to the primary quickly, and a missing one must not stop startup
+        config.setConnectionTimeout(replicaConnectionTimeoutMs);
+        config.setInitializationFailTimeout(-1);
+        if (Objects.isNull(config.getMetricsTrackerFactory()) && Objects.isNull(config.getMetricRegistry())) {
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,82 @@
+package com.epam.gymcrm.config;
+
+import com.epam.gymcrm.db.cache.CacheRegions;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Builds the JCache manager behind the Hibernate second-level cache. Region sizes and
+ * time-to-live come from {@code cache.second-level.*} so each profile can tune them.
+ * <p>
+ * Regions are local to each node and nothing invalidates them across nodes, so a TTL is also how
+ * long another node may serve an entity after it changed. The user regions get their own, shorter
+ * TTL; login and password change read credentials from the database and never rely on it.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final URI CACHE_MANAGER_URI = URI.create("urn:gymcrm:hibernate-second-level");
+
+    // One entry per table, so a small fixed bound is enough
+    private static final long UPDATE_TIMESTAMPS_MAX_ENTRIES = 1_000;
+
+    @Value("${cache.second-level.entity.max-entries:10000}")
+    private long entityMaxEntries;
+
+    @Value("${cache.second-level.entity.ttl-seconds:600}")
+    private long entityTtlSeconds;
+
+    @Value("${cache.second-level.users.ttl-seconds:30}")
+    private long usersTtlSeconds;
+
+    @Value("${cache.second-level.query.max-entries:1000}")
+    private long queryMaxEntries;
+
+    @Value("${cache.second-level.query.ttl-seconds:60}")
+    private long queryTtlSeconds;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        ConfigurationBuilder regions = ConfigurationBuilder.newConfigurationBuilder();
+        for (String region : CacheRegions.ENTITY_REGIONS) {
+            long ttlSeconds = CacheRegions.USER_REGIONS.contains(region) ? usersTtlSeconds : entityTtlSeconds;
+            regions = regions.withCache(region, region(entityMaxEntries, ttlSeconds));
+        }
+        regions = regions.withCache(CacheRegions.QUERY_RESULTS, region(queryMaxEntries, queryTtlSeconds));
+
+        // Must outlive every cached query result, otherwise stale results could be served
+        regions = regions.withCache(CacheRegions.UPDATE_TIMESTAMPS,
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                        ResourcePoolsBuilder.heap(UPDATE_TIMESTAMPS_MAX_ENTRIES)).build());
+
+        EhcacheCachingProvider provider = (EhcacheCachingProvider)
+                Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        return provider.getCacheManager(CACHE_MANAGER_URI, regions.build());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CacheConfiguration<Object, Object> region(long maxEntries, long ttlSeconds) {
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                        ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ttlSeconds)))
+                .build();
+    }
+}
@@ -1,6 +1,10 @@
 package com.epam.gymcrm.config;
 
 import com.epam.gymcrm.infrastructure.security.BlacklistFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,7 +17,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -33,7 +37,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${management.server.port:-1}") int managementPort) throws Exception {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(Customizer.withDefaults())
@@ -45,15 +50,29 @@ public class SecurityConfig {
                                 "/api/v1/trainers").permitAll()
                         .requestMatchers(HttpMethod.GET,
                                 "/api/v1/training-types").permitAll()
+                        // Scraped by Prometheus, which has no token; open on the management port only
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && EndpointRequest.to(PrometheusScrapeEndpoint.class).matches(request)).permitAll()
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.decoder(jwtDecoder)))
-                .addFilterBefore(blacklistFilter, UsernamePasswordAuthenticationFilter.class)
+                // Reads the Jwt the bearer filter already verified instead of decoding it again
+                .addFilterAfter(blacklistFilter, BearerTokenAuthenticationFilter.class)
                 .build();
     }
 
+    // Only part of the security chain, not registered a second time as a servlet filter
     @Bean
-    public PasswordEncoder passwordEncoder() { return new BCryptPasswordEncoder(); }
+    public FilterRegistrationBean<BlacklistFilter> blacklistFilterRegistration() {
+        FilterRegistrationBean<BlacklistFilter> registration = new FilterRegistrationBean<>(blacklistFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
 
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -1,6 +1,12 @@
 package com.epam.gymcrm.config;
 
 import com.epam.gymcrm.api.logging.RestLoggingInterceptor;
+import com.epam.gymcrm.infrastructure.monitoring.hibernate.HibernateRequestMetricsInterceptor;
+import com.epam.gymcrm.infrastructure.monitoring.hibernate.RequestAwareStatistics;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -8,8 +14,25 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final RestLoggingInterceptor restLoggingInterceptor;
+    private final HibernateRequestMetricsInterceptor hibernateRequestMetricsInterceptor;
+
+    public WebConfig(RestLoggingInterceptor restLoggingInterceptor,
+                     HibernateRequestMetricsInterceptor hibernateRequestMetricsInterceptor) {
+        this.restLoggingInterceptor = restLoggingInterceptor;
+        this.hibernateRequestMetricsInterceptor = hibernateRequestMetricsInterceptor;
+    }
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RestLoggingInterceptor());
+        registry.addInterceptor(restLoggingInterceptor);
+        registry.addInterceptor(hibernateRequestMetricsInterceptor);
+    }
+
+    // Counts Hibernate work per request for the interceptor above
+    @Bean
+    public HibernatePropertiesCustomizer requestStatisticsCustomizer() {
+        return properties -> properties.put(StatisticsSettings.STATS_BUILDER,
+                (StatisticsFactory) RequestAwareStatistics::new);
     }
 }
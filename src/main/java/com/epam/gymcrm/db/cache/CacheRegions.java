@@ -0,0 +1,29 @@
+package com.epam.gymcrm.db.cache;
+
+import org.hibernate.cache.spi.RegionFactory;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level cache regions. Every region must be listed here,
+ * Hibernate is configured to fail on start-up when it meets an unknown one.
+ */
+public final class CacheRegions {
+
+    public static final String USERS = "gymcrm.users";
+    public static final String TRAINEES = "gymcrm.trainees";
+    public static final String TRAINERS = "gymcrm.trainers";
+    public static final String TRAINING_TYPES = "gymcrm.training-types";
+
+    public static final String QUERY_RESULTS = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    public static final String UPDATE_TIMESTAMPS = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    public static final List<String> ENTITY_REGIONS =
+            List.of(USERS, TRAINEES, TRAINERS, TRAINING_TYPES);
+
+    // Hold the active flag and names shown in profiles, kept only briefly
+    public static final List<String> USER_REGIONS = List.of(USERS);
+
+    private CacheRegions() {
+    }
+}
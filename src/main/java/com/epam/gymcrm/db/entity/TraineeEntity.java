@@ -1,6 +1,9 @@
 package com.epam.gymcrm.db.entity;
 
+import com.epam.gymcrm.db.cache.CacheRegions;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.HashSet;
@@ -8,10 +11,14 @@ import java.util.Objects;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TRAINEES)
 @Table(name = "trainees")
 public class TraineeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainees_seq")
+    @SequenceGenerator(name = "trainees_seq", sequenceName = "trainees_seq", allocationSize = 50)
+    @Column(columnDefinition = "bigint default nextval('trainees_seq')")
     private Long id;
 
     @OneToOne(cascade = CascadeType.ALL)
@@ -1,17 +1,24 @@
 package com.epam.gymcrm.db.entity;
 
+import com.epam.gymcrm.db.cache.CacheRegions;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TRAINERS)
 @Table(name = "trainers")
 public class TrainerEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainers_seq")
+    @SequenceGenerator(name = "trainers_seq", sequenceName = "trainers_seq", allocationSize = 50)
+    @Column(columnDefinition = "bigint default nextval('trainers_seq')")
     private Long id;
 
     @OneToOne(cascade = CascadeType.ALL)
@@ -6,11 +6,16 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "trainings")
+@Table(name = "trainings", indexes = {
+        @Index(name = "idx_trainings_trainee_date_id", columnList = "trainee_id, training_date, id"),
+        @Index(name = "idx_trainings_trainer_date_id", columnList = "trainer_Id, training_date, id")
+})
 public class TrainingEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainings_seq")
+    @SequenceGenerator(name = "trainings_seq", sequenceName = "trainings_seq", allocationSize = 50)
+    @Column(columnDefinition = "bigint default nextval('trainings_seq')")
     private Long id;
 
     @ManyToOne
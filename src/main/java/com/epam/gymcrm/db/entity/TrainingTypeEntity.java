@@ -1,17 +1,26 @@
 package com.epam.gymcrm.db.entity;
 
+import com.epam.gymcrm.db.cache.CacheRegions;
+import com.epam.gymcrm.db.listener.TrainingTypeEntityListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TRAINING_TYPES)
 @Table(name = "training_types")
+@EntityListeners(TrainingTypeEntityListener.class)
 public class TrainingTypeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "training_types_seq")
+    @SequenceGenerator(name = "training_types_seq", sequenceName = "training_types_seq", allocationSize = 50)
+    @Column(columnDefinition = "bigint default nextval('training_types_seq')")
     private Long id;
 
     @Column(nullable = false, name = "training_type_name")
@@ -1,15 +1,23 @@
 package com.epam.gymcrm.db.entity;
 
+import com.epam.gymcrm.db.cache.CacheRegions;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.time.Instant;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USERS)
 @Table(name = "users")
 public class UserEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
+    @Column(columnDefinition = "bigint default nextval('users_seq')")
     private Long id;
 
     @Column(nullable = false, name = "first_name")
@@ -21,12 +29,23 @@ public class UserEntity {
     @Column(nullable = false, unique = true)
     private String username;
 
+    // Cached with the entity for profile reads only, authentication reads it via findCredentialsByUsername
     @Column(nullable = false)
     private String password;
 
     @Column(nullable = false, name = "is_active")
     private Boolean isActive;
 
+    // Maintained by PostgreSQL, trigram-indexed for name search
+    @Column(name = "search_name", insertable = false, updatable = false,
+            columnDefinition = "varchar(511) generated always as (lower(first_name || ' ' || last_name)) stored")
+    private String searchName;
+
+    // Set by the database, read by UsernameFilter to pick up registrations from other nodes
+    @Column(name = "created_at", insertable = false, updatable = false,
+            columnDefinition = "timestamp with time zone not null default current_timestamp")
+    private Instant createdAt;
+
     public UserEntity() {
     }
 
@@ -0,0 +1,28 @@
+package com.epam.gymcrm.db.listener;
+
+import com.epam.gymcrm.db.entity.TrainingTypeEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Announces training type writes so in-memory snapshots can be rebuilt once the transaction commits.
+ */
+@Component
+public class TrainingTypeEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TrainingTypeEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(TrainingTypeEntity trainingType) {
+        eventPublisher.publishEvent(new TrainingTypesChangedEvent(trainingType.getId()));
+    }
+}
@@ -0,0 +1,4 @@
+package com.epam.gymcrm.db.listener;
+
+public record TrainingTypesChangedEvent(Long trainingTypeId) {
+}
@@ -1,20 +1,34 @@
 package com.epam.gymcrm.db.repository;
 
 import com.epam.gymcrm.db.entity.TraineeEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TraineeRepository extends JpaRepository<TraineeEntity, Long> {
+public interface TraineeRepository extends JpaRepository<TraineeEntity, Long>, TraineeTrainerRepository {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<TraineeEntity> findByUserUsername(String username);
 
     Boolean existsByUserUsername(String username);
 
     @Query("SELECT t FROM TraineeEntity t LEFT JOIN FETCH t.trainers WHERE t.user.username = :username")
     Optional<TraineeEntity> findByUserUsernameWithTrainers(@Param("username") String username);
+
+    @Query("SELECT DISTINCT t FROM TraineeEntity t JOIN FETCH t.user u " +
+            "LEFT JOIN FETCH t.trainers tr LEFT JOIN FETCH tr.user LEFT JOIN FETCH tr.trainingType " +
+            "WHERE u.username IN :usernames")
+    List<TraineeEntity> findAllWithTrainersByUserUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    @Query("SELECT t.id FROM TraineeEntity t WHERE t.user.username IN :usernames")
+    List<Long> findIdsByUserUsernameIn(@Param("usernames") Collection<String> usernames);
 }
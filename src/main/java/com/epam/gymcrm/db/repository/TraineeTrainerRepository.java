@@ -0,0 +1,17 @@
+package com.epam.gymcrm.db.repository;
+
+import java.util.Collection;
+
+/**
+ * Set-based changes to the trainee_trainer join table that would otherwise load and rewrite
+ * every affected trainee's trainer collection.
+ */
+public interface TraineeTrainerRepository {
+
+    /**
+     * Moves trainees from one trainer to another with one insert and one delete. Trainees already
+     * assigned to the new trainer just lose the old one. {@code traineeIds} limits the move to those
+     * trainees, {@code null} moves all of them. Returns the number of trainees moved.
+     */
+    int reassignTrainer(long fromTrainerId, long toTrainerId, Collection<Long> traineeIds);
+}
@@ -0,0 +1,46 @@
+package com.epam.gymcrm.db.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.Objects;
+
+public class TraineeTrainerRepositoryImpl implements TraineeTrainerRepository {
+
+    private static final String ADD_NEW_TRAINER =
+            "INSERT INTO trainee_trainer (trainee_id, trainer_id) " +
+            "SELECT tt.trainee_id, :to FROM trainee_trainer tt " +
+            "WHERE tt.trainer_id = :from " +
+            "AND NOT EXISTS (SELECT 1 FROM trainee_trainer x WHERE x.trainee_id = tt.trainee_id AND x.trainer_id = :to)";
+    private static final String REMOVE_OLD_TRAINER =
+            "DELETE FROM trainee_trainer WHERE trainer_id = :from";
+    private static final String ONLY_TRAINEES = " AND %s IN (:trainees)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TraineeTrainerRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    // Runs in the caller's transaction. The trainer collections are not in the second-level cache,
+    // so there is nothing to evict; trainees loaded earlier in the same transaction are stale.
+    @Override
+    public int reassignTrainer(long fromTrainerId, long toTrainerId, Collection<Long> traineeIds) {
+        if (Objects.nonNull(traineeIds) && traineeIds.isEmpty()) return 0;
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("from", fromTrainerId)
+                .addValue("to", toTrainerId);
+        String add = ADD_NEW_TRAINER;
+        String remove = REMOVE_OLD_TRAINER;
+        if (Objects.nonNull(traineeIds)) {
+            parameters.addValue("trainees", traineeIds);
+            add += ONLY_TRAINEES.formatted("tt.trainee_id");
+            remove += ONLY_TRAINEES.formatted("trainee_id");
+        }
+        jdbcTemplate.update(add, parameters);
+        return jdbcTemplate.update(remove, parameters);
+    }
+}
@@ -1,17 +1,22 @@
 package com.epam.gymcrm.db.repository;
 
 import com.epam.gymcrm.db.entity.TrainerEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TrainerRepository extends JpaRepository<TrainerEntity, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<TrainerEntity> findByUserUsername(String username);
 
     @Query("SELECT t FROM TrainerEntity t LEFT JOIN FETCH t.trainees WHERE t.user.username = :username")
@@ -24,5 +29,8 @@ public interface TrainerRepository extends JpaRepository<TrainerEntity, Long> {
 
     List<TrainerEntity> findAllByUserUsernameIn(List<String> trainerUsernames);
 
+    @Query("SELECT t FROM TrainerEntity t JOIN FETCH t.user u JOIN FETCH t.trainingType WHERE u.username IN :usernames")
+    List<TrainerEntity> findAllWithUserByUserUsernameIn(@Param("usernames") Collection<String> usernames);
+
     Boolean existsByUserUsername(String username);
 }
@@ -1,14 +1,28 @@
 package com.epam.gymcrm.db.repository;
 
 import com.epam.gymcrm.db.entity.TrainingEntity;
+import com.epam.gymcrm.db.repository.projection.TrainingSlotView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
-public interface TrainingRepository extends JpaRepository<TrainingEntity, Long>, JpaSpecificationExecutor<TrainingEntity> {
-    Optional<TrainingEntity> findByTrainerIdAndTrainingDate(Long trainerId, LocalDateTime trainingDate);
+public interface TrainingRepository extends JpaRepository<TrainingEntity, Long>, JpaSpecificationExecutor<TrainingEntity>,
+        TrainingViewRepository {
+
+    // Trainings of these trainers that may overlap [start, end]: the end is inclusive so zero-length
+    // trainings there are found too, and the caller applies the exact rule
+    @Query("SELECT new com.epam.gymcrm.db.repository.projection.TrainingSlotView(" +
+            "t.id, t.trainer.id, t.trainingDate, t.trainingDuration) FROM TrainingEntity t " +
+            "WHERE t.trainer.id IN :trainerIds AND t.trainingDate <= :end " +
+            "AND (t.trainingDate >= :start OR t.trainingDate + (t.trainingDuration) minute > :start)")
+    List<TrainingSlotView> findSlotsOverlapping(@Param("trainerIds") Collection<Long> trainerIds,
+                                                @Param("start") LocalDateTime start,
+                                                @Param("end") LocalDateTime end);
 }
@@ -0,0 +1,26 @@
+package com.epam.gymcrm.db.repository;
+
+import com.epam.gymcrm.db.entity.TrainingEntity;
+import com.epam.gymcrm.db.repository.projection.TraineeTrainingView;
+import com.epam.gymcrm.db.repository.projection.TrainerTrainingView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Column projections of trainings for the list endpoints. Each call is a single select
+ * joining training type and the counterpart's user, without loading entity graphs.
+ */
+public interface TrainingViewRepository {
+
+    List<TraineeTrainingView> findTraineeTrainingViews(Specification<TrainingEntity> specification, Sort sort, Limit limit);
+
+    Stream<TraineeTrainingView> streamTraineeTrainingViews(Specification<TrainingEntity> specification, Sort sort);
+
+    List<TrainerTrainingView> findTrainerTrainingViews(Specification<TrainingEntity> specification, Sort sort, Limit limit);
+
+    Stream<TrainerTrainingView> streamTrainerTrainingViews(Specification<TrainingEntity> specification, Sort sort);
+}
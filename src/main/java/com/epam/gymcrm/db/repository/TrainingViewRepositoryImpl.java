@@ -0,0 +1,102 @@
+package com.epam.gymcrm.db.repository;
+
+import com.epam.gymcrm.db.entity.TrainingEntity;
+import com.epam.gymcrm.db.repository.projection.TraineeTrainingView;
+import com.epam.gymcrm.db.repository.projection.TrainerTrainingView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+public class TrainingViewRepositoryImpl implements TrainingViewRepository {
+
+    private final EntityManager entityManager;
+
+    public TrainingViewRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<TraineeTrainingView> findTraineeTrainingViews(Specification<TrainingEntity> specification, Sort sort, Limit limit) {
+        return limited(query(TraineeTrainingView.class, TrainingViewRepositoryImpl::traineeView, specification, sort), limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<TraineeTrainingView> streamTraineeTrainingViews(Specification<TrainingEntity> specification, Sort sort) {
+        return query(TraineeTrainingView.class, TrainingViewRepositoryImpl::traineeView, specification, sort)
+                .getResultStream();
+    }
+
+    @Override
+    public List<TrainerTrainingView> findTrainerTrainingViews(Specification<TrainingEntity> specification, Sort sort, Limit limit) {
+        return limited(query(TrainerTrainingView.class, TrainingViewRepositoryImpl::trainerView, specification, sort), limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<TrainerTrainingView> streamTrainerTrainingViews(Specification<TrainingEntity> specification, Sort sort) {
+        return query(TrainerTrainingView.class, TrainingViewRepositoryImpl::trainerView, specification, sort)
+                .getResultStream();
+    }
+
+    private <V> TypedQuery<V> query(Class<V> viewType,
+                                    BiFunction<Root<TrainingEntity>, CriteriaBuilder, CompoundSelection<V>> selection,
+                                    Specification<TrainingEntity> specification, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<V> query = cb.createQuery(viewType);
+        Root<TrainingEntity> root = query.from(TrainingEntity.class);
+
+        query.select(selection.apply(root, cb));
+        Predicate predicate = Objects.isNull(specification) ? null : specification.toPredicate(root, query, cb);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private static <V> TypedQuery<V> limited(TypedQuery<V> query, Limit limit) {
+        return limit.isLimited() ? query.setMaxResults(limit.max()) : query;
+    }
+
+    // Paths are navigated implicitly so they share the joins created by the filter specifications
+    private static CompoundSelection<TraineeTrainingView> traineeView(Root<TrainingEntity> root, CriteriaBuilder cb) {
+        Path<Object> trainerUser = root.get("trainer").get("user");
+        return cb.construct(TraineeTrainingView.class,
+                root.get("id"),
+                root.get("trainingName"),
+                root.get("trainingDate"),
+                root.get("trainingType").get("trainingTypeName"),
+                root.get("trainingDuration"),
+                trainerUser.get("firstName"),
+                trainerUser.get("lastName"));
+    }
+
+    private static CompoundSelection<TrainerTrainingView> trainerView(Root<TrainingEntity> root, CriteriaBuilder cb) {
+        Path<Object> traineeUser = root.get("trainee").get("user");
+        return cb.construct(TrainerTrainingView.class,
+                root.get("id"),
+                root.get("trainingName"),
+                root.get("trainingDate"),
+                root.get("trainingType").get("trainingTypeName"),
+                root.get("trainingDuration"),
+                traineeUser.get("firstName"),
+                traineeUser.get("lastName"));
+    }
+}
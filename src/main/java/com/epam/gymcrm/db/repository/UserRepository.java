@@ -1,15 +1,35 @@
 package com.epam.gymcrm.db.repository;
 
 import com.epam.gymcrm.db.entity.UserEntity;
+import com.epam.gymcrm.db.repository.projection.UserCredentialsView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<UserEntity, Long> {
+public interface UserRepository extends JpaRepository<UserEntity, Long>, UsernameSuffixRepository {
 
     boolean existsByUsername(String username);
 
     Optional<UserEntity> findByUsername(String username);
+
+    // Skips the second-level cache: another node may have changed the password or deactivated the
+    // user, and its cache invalidation does not reach this one. It reaches the primary only because
+    // no caller runs it inside a readOnly transaction, which would route it to a replica
+    @Query("SELECT new com.epam.gymcrm.db.repository.projection.UserCredentialsView(" +
+            "u.id, u.username, u.password, u.isActive) FROM UserEntity u WHERE u.username = :username")
+    Optional<UserCredentialsView> findCredentialsByUsername(@Param("username") String username);
+
+    // Replaces the hash only if it is still the one the caller verified, returns 0 when it changed meanwhile
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserEntity u SET u.password = :newHash WHERE u.id = :id AND u.password = :expectedHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("expectedHash") String expectedHash,
+                                  @Param("newHash") String newHash);
 }
@@ -0,0 +1,14 @@
+package com.epam.gymcrm.db.repository;
+
+/**
+ * Hands out username suffixes per base from a counter row instead of probing
+ * base, base1, base2... one query at a time.
+ */
+public interface UsernameSuffixRepository {
+
+    /**
+     * Next free suffix for {@code base}; 0 means the bare base. Runs in the caller's transaction and
+     * never returns the same value to two committed callers, also across nodes.
+     */
+    long nextUsernameSuffix(String base);
+}
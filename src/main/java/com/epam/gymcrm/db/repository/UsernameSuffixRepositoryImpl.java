@@ -0,0 +1,68 @@
+package com.epam.gymcrm.db.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+public class UsernameSuffixRepositoryImpl implements UsernameSuffixRepository {
+
+    private static final String LOCK =
+            "SELECT last_suffix FROM username_counters WHERE base = ? FOR UPDATE";
+    private static final String INCREMENT =
+            "UPDATE username_counters SET last_suffix = ? WHERE base = ?";
+    private static final String CREATE =
+            "INSERT INTO username_counters (base, last_suffix) VALUES (?, ?) ON CONFLICT DO NOTHING";
+    private static final String EXISTING =
+            "SELECT username FROM users WHERE username LIKE ? ESCAPE '\\'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public UsernameSuffixRepositoryImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Joins the registration's transaction, so a registration holds one pool connection, not two.
+        // The counter row stays locked until that transaction ends: registrations for the same base
+        // queue behind each other, and a rolled back registration hands its suffix back.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+    }
+
+    @Override
+    public long nextUsernameSuffix(String base) {
+        Long suffix = transactionTemplate.execute(status -> {
+            List<Long> last = jdbcTemplate.queryForList(LOCK, Long.class, base);
+            if (!last.isEmpty()) {
+                long next = last.get(0) + 1;
+                jdbcTemplate.update(INCREMENT, next, base);
+                return next;
+            }
+            // First use of this base: continue after any usernames created before the counter
+            long next = highestExistingSuffix(base) + 1;
+            if (jdbcTemplate.update(CREATE, base, next) == 1) {
+                return next;
+            }
+            // Another registration created the row meanwhile
+            long current = jdbcTemplate.queryForObject(LOCK, Long.class, base) + 1;
+            jdbcTemplate.update(INCREMENT, current, base);
+            return current;
+        });
+        return suffix;
+    }
+
+    private long highestExistingSuffix(String base) {
+        long highest = -1;
+        String pattern = base.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        for (String username : jdbcTemplate.queryForList(EXISTING, String.class, pattern)) {
+            String rest = username.substring(base.length());
+            if (rest.isEmpty()) {
+                highest = Math.max(highest, 0);
+            } else if (rest.length() < 19 && rest.chars().allMatch(Character::isDigit)) {
+                highest = Math.max(highest, Long.parseLong(rest));
+            }
+        }
+        return highest;
+    }
+}
@@ -0,0 +1,14 @@
+package com.epam.gymcrm.db.repository.projection;
+
+import java.time.LocalDateTime;
+
+public record TraineeTrainingView(
+        Long id,
+        String trainingName,
+        LocalDateTime trainingDate,
+        String trainingTypeName,
+        Integer trainingDuration,
+        String trainerFirstName,
+        String trainerLastName
+) implements TrainingRowView {
+}
@@ -0,0 +1,13 @@
+package com.epam.gymcrm.db.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keyset columns shared by the training list projections.
+ */
+public interface TrainingRowView {
+
+    Long id();
+
+    LocalDateTime trainingDate();
+}
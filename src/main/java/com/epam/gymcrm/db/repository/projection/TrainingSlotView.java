@@ -0,0 +1,11 @@
+package com.epam.gymcrm.db.repository.projection;
+
+import java.time.LocalDateTime;
+
+public record TrainingSlotView(
+        Long trainingId,
+        Long trainerId,
+        LocalDateTime trainingDate,
+        int trainingDuration
+) {
+}
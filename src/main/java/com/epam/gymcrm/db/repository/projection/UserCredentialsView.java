@@ -0,0 +1,9 @@
+package com.epam.gymcrm.db.repository.projection;
+
+public record UserCredentialsView(
+        Long id,
+        String username,
+        String password,
+        Boolean active
+) {
+}
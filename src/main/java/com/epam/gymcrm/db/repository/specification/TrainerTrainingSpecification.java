@@ -1,10 +1,10 @@
 package com.epam.gymcrm.db.repository.specification;
 
 import com.epam.gymcrm.db.entity.TrainingEntity;
-import jakarta.persistence.criteria.Expression;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 public class TrainerTrainingSpecification {
@@ -27,11 +27,17 @@ public class TrainerTrainingSpecification {
     public static Specification<TrainingEntity> traineeName(String traineeName) {
         return (root, query, cb) -> {
             if (Objects.isNull(traineeName)) return null;
-            Expression<String> fullName = cb.concat(
-                    root.get("trainee").get("user").get("firstName"), cb.literal(" ")
+            return cb.like(root.get("trainee").get("user").get("searchName"), "%" + traineeName.toLowerCase() + "%");
+        };
+    }
+
+    public static Specification<TrainingEntity> after(LocalDateTime trainingDate, Long id) {
+        return (root, query, cb) -> {
+            if (Objects.isNull(trainingDate) || Objects.isNull(id)) return null;
+            return cb.or(
+                    cb.greaterThan(root.get("trainingDate"), trainingDate),
+                    cb.and(cb.equal(root.get("trainingDate"), trainingDate), cb.greaterThan(root.get("id"), id))
             );
-            fullName = cb.concat(fullName, root.get("trainee").get("user").get("lastName"));
-            return cb.like(cb.lower(fullName), "%" + traineeName.toLowerCase() + "%");
         };
     }
 }
@@ -1,11 +1,10 @@
 package com.epam.gymcrm.db.repository.specification;
 
 import com.epam.gymcrm.db.entity.TrainingEntity;
-import jakarta.persistence.criteria.Expression;
-import jakarta.persistence.criteria.Join;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 public class TrainingSpecification {
@@ -28,19 +27,24 @@ public class TrainingSpecification {
     public static Specification<TrainingEntity> trainerName(String trainerName) {
         return (root, query, cb) -> {
             if (Objects.isNull(trainerName)) return null;
-            Expression<String> fullName = cb.concat(
-                    root.get("trainer").get("user").get("firstName"), cb.literal(" ")
-            );
-            fullName = cb.concat(fullName, root.get("trainer").get("user").get("lastName"));
-            return cb.like(cb.lower(fullName), "%" + trainerName.toLowerCase() + "%");
+            return cb.like(root.get("trainer").get("user").get("searchName"), "%" + trainerName.toLowerCase() + "%");
         };
     }
 
     public static Specification<TrainingEntity> trainingType(String trainingTypeName) {
         return (root, query, cb) -> {
             if (trainingTypeName == null) return null;
-            Join<Object, Object> trainingTypeJoin = root.join("trainingType");
-            return cb.equal(trainingTypeJoin.get("trainingTypeName"), trainingTypeName);
+            return cb.equal(root.get("trainingType").get("trainingTypeName"), trainingTypeName);
+        };
+    }
+
+    public static Specification<TrainingEntity> after(LocalDateTime trainingDate, Long id) {
+        return (root, query, cb) -> {
+            if (Objects.isNull(trainingDate) || Objects.isNull(id)) return null;
+            return cb.or(
+                    cb.greaterThan(root.get("trainingDate"), trainingDate),
+                    cb.and(cb.equal(root.get("trainingDate"), trainingDate), cb.greaterThan(root.get("id"), id))
+            );
         };
     }
 }
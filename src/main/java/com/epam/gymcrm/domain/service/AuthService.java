@@ -3,23 +3,27 @@ package com.epam.gymcrm.domain.service;
 import com.epam.gymcrm.api.payload.request.ChangePasswordRequest;
 import com.epam.gymcrm.api.payload.request.LoginRequest;
 import com.epam.gymcrm.api.payload.response.LoginResponse;
-import com.epam.gymcrm.db.entity.UserEntity;
 import com.epam.gymcrm.db.repository.UserRepository;
+import com.epam.gymcrm.db.repository.projection.UserCredentialsView;
 import com.epam.gymcrm.domain.exception.AccountLockedException;
 import com.epam.gymcrm.domain.exception.BadRequestException;
 import com.epam.gymcrm.domain.exception.InvalidCredentialsException;
 import com.epam.gymcrm.domain.exception.NotFoundException;
 import com.epam.gymcrm.infrastructure.security.BruteForceService;
+import com.epam.gymcrm.infrastructure.security.PasswordHasher;
 import com.epam.gymcrm.infrastructure.security.TokenBlacklist;
+import com.epam.gymcrm.infrastructure.security.UsernameFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.*;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
@@ -31,8 +35,10 @@ public class AuthService {
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final PasswordUpgradeService passwordUpgradeService;
     private final BruteForceService bruteForce;
+    private final UsernameFilter usernameFilter;
     private final JwtEncoder jwtEncoder;
     private final JwtDecoder jwtDecoder;
     private final TokenBlacklist blacklist;
@@ -40,16 +46,20 @@ public class AuthService {
     private final long accessTokenMinutes;
 
     public AuthService(UserRepository userRepository,
-                       PasswordEncoder passwordEncoder,
+                       PasswordHasher passwordHasher,
+                       PasswordUpgradeService passwordUpgradeService,
                        BruteForceService bruteForce,
+                       UsernameFilter usernameFilter,
                        JwtEncoder jwtEncoder,
                        JwtDecoder jwtDecoder,
                        TokenBlacklist blacklist,
                        @Value("${security.jwt.issuer}") String issuer,
                        @Value("${security.jwt.access-token-minutes}") long accessTokenMinutes) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.passwordUpgradeService = passwordUpgradeService;
         this.bruteForce = bruteForce;
+        this.usernameFilter = usernameFilter;
         this.jwtEncoder = jwtEncoder;
         this.jwtDecoder = jwtDecoder;
         this.blacklist = blacklist;
@@ -61,38 +71,54 @@ public class AuthService {
         final String username = request.username();
         logger.info("Login attempt. username={}", username);
 
+        // Names the filter rules out skip the database and the per-username counter, only the
+        // client address is counted; they still pay the hashing work and fail like a wrong password
+        if (!usernameFilter.mightExist(username)) {
+            if (bruteForce.isAddressBlocked()) {
+                long retry = bruteForce.addressRetryAfterSeconds();
+                logger.warn("Login blocked due to brute-force. username={}, retryAfterSeconds={}", username, retry);
+                throw new AccountLockedException(retry);
+            }
+            passwordHasher.matchesNothing(request.password());
+            bruteForce.registerAddressFailure();
+            logger.warn("Login failed: user not found. username={}", username);
+            throw new InvalidCredentialsException("Login failed: Invalid credentials.");
+        }
+
         if (bruteForce.isBlocked(username)) {
             long retry = bruteForce.retryAfterSeconds(username);
             logger.warn("Login blocked due to brute-force. username={}, retryAfterSeconds={}", username, retry);
             throw new AccountLockedException(retry); // 423 için custom exception
         }
 
-        UserEntity userEntity = userRepository.findByUsername(username)
-                .orElseThrow(() -> {
-                    logger.warn("Login failed: user not found. username={}", username);
-                    return new NotFoundException(String.format(
-                            "Login failed: User not found for login. (username=%s)", username));
-                });
+        UserCredentialsView user = userRepository.findCredentialsByUsername(username).orElse(null);
+        if (Objects.isNull(user)) {
+            passwordHasher.matchesNothing(request.password());
+            bruteForce.registerFailure(username);
+            logger.warn("Login failed: user not found. username={}", username);
+            throw new InvalidCredentialsException("Login failed: Invalid credentials.");
+        }
 
-        if (!passwordEncoder.matches(request.password(), userEntity.getPassword())) {
+        if (!passwordHasher.matches(request.password(), user.password())) {
             bruteForce.registerFailure(username);
             logger.warn("Login failed: invalid password. username={}", username);
             throw new InvalidCredentialsException("Login failed: Invalid credentials.");
         }
 
-        if (!Boolean.TRUE.equals(userEntity.getActive())) {
+        if (!Boolean.TRUE.equals(user.active())) {
             logger.warn("Login failed: user not active. username={}", username);
             throw new BadRequestException("Login failed: User is not active.");
         }
 
         // Successful login
         bruteForce.registerSuccess(username);
+        passwordUpgradeService.upgradeIfNeeded(user.id(), user.password(), request.password());
 
         Instant now = Instant.now();
         Instant exp = now.plus(Duration.ofMinutes(accessTokenMinutes));
 
         JwtClaimsSet claims = JwtClaimsSet.builder()
-                .subject(userEntity.getUsername())
+                .subject(user.username())
                 .issuer(issuer)
                 .issuedAt(now)
                 .expiresAt(exp)
@@ -111,7 +137,7 @@ public class AuthService {
         if (Objects.isNull(bearerToken) || !bearerToken.startsWith("Bearer ")) return;
         String token = bearerToken.substring(7);
         try {
-            Jwt jwt = jwtDecoder.decode(token);
+            Jwt jwt = authenticatedJwt(token);
             String jti = jwt.getId();
             Instant exp = jwt.getExpiresAt();
             if (Objects.nonNull(jti) && Objects.nonNull(exp)) {
@@ -123,31 +149,49 @@ public class AuthService {
         }
     }
 
-    @Transactional
+    // The resource server has already verified the request's token, decode only when called outside it
+    private Jwt authenticatedJwt(String token) {
+        if (SecurityContextHolder.getContext().getAuthentication() instanceof JwtAuthenticationToken auth
+                && token.equals(auth.getToken().getTokenValue())) {
+            return auth.getToken();
+        }
+        return jwtDecoder.decode(token);
+    }
+
+    // No surrounding transaction: the connection is not held while bcrypt runs
     public void changePassword(ChangePasswordRequest request) {
         final String username = request.username();
         logger.info("Change password attempt. username={}", username);
 
-        UserEntity userEntity = userRepository.findByUsername(username)
+        UserCredentialsView user = userRepository.findCredentialsByUsername(username)
                 .orElseThrow(() -> {
                     logger.warn("Password change failed: user not found. username={}", username);
                     return new NotFoundException(String.format(
                             "Password change failed: User not found. (username=%s)", username));
                 });
 
-        if (!passwordEncoder.matches(request.oldPassword(), userEntity.getPassword())) {
+        if (!passwordHasher.matches(request.oldPassword(), user.password())) {
             logger.warn("Password change failed: old password invalid. username={}", username);
             throw new BadRequestException("Password change failed: Invalid old password.");
         }
 
-        if (passwordEncoder.matches(request.newPassword(), userEntity.getPassword())) {
+        // The old password is verified at this point, so comparing raw inputs saves a second bcrypt round
+        if (sameSecret(request.newPassword(), request.oldPassword())) {
             logger.warn("Password change failed: new password cannot be same as old. username={}", username);
             throw new BadRequestException("Password change failed: New password cannot be same as old password.");
         }
 
-        userEntity.setPassword(passwordEncoder.encode(request.newPassword()));
-        userRepository.save(userEntity);
+        // A hash upgrade or another change may land while bcrypt runs, only the verified hash is replaced
+        String newHash = passwordHasher.encode(request.newPassword());
+        if (userRepository.updatePasswordIfUnchanged(user.id(), user.password(), newHash) == 0) {
+            logger.warn("Password change failed: password changed concurrently. username={}", username);
+            throw new IllegalStateException("Password change failed: Password was changed concurrently, try again.");
+        }
 
         logger.info("Password changed successfully. username={}", username);
     }
-}
\ No newline at end of file
+
+    private static boolean sameSecret(String a, String b) {
+        return MessageDigest.isEqual(a.getBytes(StandardCharsets.UTF_8), b.getBytes(StandardCharsets.UTF_8));
+    }
+}
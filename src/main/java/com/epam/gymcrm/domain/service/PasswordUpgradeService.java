@@ -0,0 +1,56 @@
+package com.epam.gymcrm.domain.service;
+
+import com.epam.gymcrm.db.repository.UserRepository;
+import com.epam.gymcrm.infrastructure.security.PasswordHasher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Re-encodes stored password hashes whose BCrypt cost differs from the configured one.
+ * The raw password is only available right after a successful verification, so the
+ * upgrade is started there and finishes in the background without delaying the response.
+ */
+@Service
+public class PasswordUpgradeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordUpgradeService.class);
+
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final Executor taskExecutor;
+
+    public PasswordUpgradeService(UserRepository userRepository,
+                                  PasswordHasher passwordHasher,
+                                  @Qualifier("applicationTaskExecutor") Executor taskExecutor) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.taskExecutor = taskExecutor;
+    }
+
+    public CompletableFuture<Boolean> upgradeIfNeeded(Long userId, String currentHash, String rawPassword) {
+        if (!passwordHasher.needsRehash(currentHash)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return passwordHasher.encodeAsync(rawPassword)
+                // The write waits on the connection pool, keep it off the bounded hashing threads
+                .thenApplyAsync(newHash -> store(userId, currentHash, newHash), taskExecutor)
+                .exceptionally(e -> {
+                    logger.warn("Password hash upgrade skipped. userId={}, cause={}", userId, e.getMessage());
+                    return false;
+                });
+    }
+
+    // Only replaces the hash that was verified, a password changed meanwhile wins
+    private boolean store(Long userId, String expectedHash, String newHash) {
+        boolean updated = userRepository.updatePasswordIfUnchanged(userId, expectedHash, newHash) > 0;
+        if (updated) {
+            logger.info("Password hash upgraded to the configured work factor. userId={}", userId);
+        }
+        return updated;
+    }
+}
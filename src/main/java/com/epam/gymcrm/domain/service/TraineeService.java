@@ -10,6 +10,7 @@ import com.epam.gymcrm.db.entity.UserEntity;
 import com.epam.gymcrm.db.repository.TraineeRepository;
 import com.epam.gymcrm.db.repository.TrainerRepository;
 import com.epam.gymcrm.db.repository.TrainingRepository;
+import com.epam.gymcrm.db.repository.projection.TraineeTrainingView;
 import com.epam.gymcrm.db.repository.specification.TrainingSpecification;
 import com.epam.gymcrm.domain.exception.BadRequestException;
 import com.epam.gymcrm.domain.exception.NotFoundException;
@@ -20,6 +21,7 @@ import com.epam.gymcrm.domain.model.User;
 import com.epam.gymcrm.infrastructure.monitoring.metrics.TraineeMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +30,8 @@ import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static com.epam.gymcrm.util.DateConstants.DEFAULT_DATE_FORMATTER;
 
@@ -88,6 +92,7 @@ public class TraineeService {
         return TraineeResponseMapper.toTraineeRegisterResponse(savedTraineeEntity, user.getRawPassword());
     }
 
+    @Transactional(readOnly = true)
     public TraineeProfileResponse findByUsername(String username) {
         logger.info("Request to find trainee by username received. Username: {}", username);
         TraineeEntity traineeEntity = traineeRepository.findByUserUsernameWithTrainers(username)
@@ -177,29 +182,109 @@ public class TraineeService {
 
         List<TrainerEntity> trainerEntities = trainerUsernames.isEmpty()
                 ? List.of()
-                : trainerRepository.findAllByUserUsernameIn(trainerUsernames);
-
-        traineeEntity.setTrainers(new HashSet<>(trainerEntities));
-
-        // Save et
-        TraineeEntity saved = traineeRepository.save(traineeEntity);
+                : trainerRepository.findAllWithUserByUserUsernameIn(trainerUsernames);
+
+        // Change only the pairs that differ. Replacing the set makes Hibernate delete every
+        // trainee_trainer row of the trainee and insert them all again.
+        Set<TrainerEntity> assigned = traineeEntity.getTrainers();
+        Set<TrainerEntity> requested = new HashSet<>(trainerEntities);
+        int before = assigned.size();
+        assigned.removeIf(trainer -> !requested.contains(trainer));
+        int removed = before - assigned.size();
+        int added = 0;
+        for (TrainerEntity trainer : requested) {
+            if (assigned.add(trainer)) added++;
+        }
         traineeMetrics.incrementTrainerUpdated();
 
-        logger.info("Updated trainers for trainee: id={}", saved.getId());
+        logger.info("Updated trainers for trainee: id={}, added={}, removed={}", traineeEntity.getId(), added, removed);
 
         return TraineeTrainerUpdateMapper.toResponse(trainerEntities);
     }
 
+    @Transactional
+    public TrainerReassignResponse reassignTrainer(TrainerReassignRequest request) {
+        logger.info("Reassigning trainees. fromTrainer={}, toTrainer={}, trainees={}",
+                request.fromTrainerUsername(), request.toTrainerUsername(),
+                Objects.isNull(request.traineeUsernames()) ? "all" : request.traineeUsernames().size());
+
+        if (request.fromTrainerUsername().equals(request.toTrainerUsername())) {
+            throw new BadRequestException("Trainees cannot be reassigned to the same trainer.");
+        }
+        TrainerEntity from = findTrainer(request.fromTrainerUsername());
+        TrainerEntity to = findTrainer(request.toTrainerUsername());
+
+        List<Long> traineeIds = null;
+        if (Objects.nonNull(request.traineeUsernames())) {
+            Set<String> usernames = new HashSet<>(request.traineeUsernames());
+            traineeIds = traineeRepository.findIdsByUserUsernameIn(usernames);
+            if (traineeIds.size() != usernames.size()) {
+                logger.warn("Reassignment failed: {} of {} trainees not found", usernames.size() - traineeIds.size(), usernames.size());
+                throw new NotFoundException("Trainees not found: " + (usernames.size() - traineeIds.size()) + " of " + usernames.size());
+            }
+        }
+
+        int reassigned = traineeRepository.reassignTrainer(from.getId(), to.getId(), traineeIds);
+        traineeMetrics.incrementTrainerReassigned(reassigned);
+
+        logger.info("Trainees reassigned. fromTrainer={}, toTrainer={}, reassigned={}",
+                request.fromTrainerUsername(), request.toTrainerUsername(), reassigned);
+        return new TrainerReassignResponse(reassigned);
+    }
+
+    @Transactional(readOnly = true)
     public TraineeTrainingsListResponse getTraineeTrainings(TraineeTrainingsFilter filter) {
-        logger.info("Trainee trainings requested. username={}, periodFrom={}, periodTo={}, trainerName={}, trainingType={}",
-                filter.username(), filter.periodFrom(), filter.periodTo(), filter.trainerName(), filter.trainingType());
+        logger.info("Trainee trainings requested. username={}, periodFrom={}, periodTo={}, trainerName={}, trainingType={}, cursor={}, limit={}",
+                filter.username(), filter.periodFrom(), filter.periodTo(), filter.trainerName(), filter.trainingType(),
+                filter.cursor(), filter.limit());
+
+        requireTraineeExists(filter.username());
+        Specification<TrainingEntity> specification = traineeTrainingsSpecification(filter);
+
+        if (filter.isPaged()) {
+            TrainingPages.Page<TraineeTrainingView> page = TrainingPages.fetch(filter.limit(),
+                    limit -> trainingRepository.findTraineeTrainingViews(specification, TrainingPages.KEYSET_ORDER, limit));
+            logger.info("Trainee trainings page fetched. username={}, trainingsCount={}, hasMore={}",
+                    filter.username(), page.rows().size(), Objects.nonNull(page.nextCursor()));
+            return TraineeTrainingsListResponseMapper.toTraineeTrainingsListResponse(page.rows(), page.nextCursor());
+        }
 
-        traineeRepository.findByUserUsernameWithTrainers(filter.username())
+        List<TraineeTrainingView> trainings = trainingRepository.findTraineeTrainingViews(
+                specification, TrainingPages.KEYSET_ORDER, Limit.unlimited());
+
+        logger.info("Trainee trainings fetch completed. username={}, trainingsCount={}", filter.username(), trainings.size());
+
+        return TraineeTrainingsListResponseMapper.toTraineeTrainingsListResponse(trainings, null);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamTraineeTrainings(TraineeTrainingsFilter filter, Consumer<TraineeTrainingInfo> sink) {
+        logger.info("Trainee trainings stream requested. username={}, cursor={}", filter.username(), filter.cursor());
+
+        requireTraineeExists(filter.username());
+        long count = TrainingPages.drain(
+                trainingRepository.streamTraineeTrainingViews(traineeTrainingsSpecification(filter), TrainingPages.KEYSET_ORDER),
+                view -> sink.accept(TraineeTrainingsListResponseMapper.toTraineeTrainingInfo(view)));
+
+        logger.info("Trainee trainings stream completed. username={}, trainingsCount={}", filter.username(), count);
+    }
+
+    private TrainerEntity findTrainer(String username) {
+        return trainerRepository.findByUserUsername(username)
                 .orElseThrow(() -> {
-                    logger.warn("Trainee not found while fetching trainings: username={}", filter.username());
-                    return new NotFoundException("Trainee not found: " + filter.username());
+                    logger.warn("Trainer not found for reassignment. username={}", username);
+                    return new NotFoundException("Trainer not found with username: " + username);
                 });
+    }
 
+    private void requireTraineeExists(String username) {
+        if (!traineeRepository.existsByUserUsername(username)) {
+            logger.warn("Trainee not found while fetching trainings: username={}", username);
+            throw new NotFoundException("Trainee not found: " + username);
+        }
+    }
+
+    private Specification<TrainingEntity> traineeTrainingsSpecification(TraineeTrainingsFilter filter) {
         LocalDate from = null, to = null;
         if (Objects.nonNull(filter.periodFrom()) && !filter.periodFrom().isBlank()) {
             logger.debug("Filtering from date: {}", filter.periodFrom());
@@ -216,11 +301,11 @@ public class TraineeService {
                 .and(TrainingSpecification.trainerName(filter.trainerName()))
                 .and(TrainingSpecification.trainingType(filter.trainingType()));
 
-        List<TrainingEntity> trainings = trainingRepository.findAll(specification);
-
-        logger.info("Trainee trainings fetch completed. username={}, trainingsCount={}", filter.username(), trainings.size());
-
-        return TraineeTrainingsListResponseMapper.toTraineeTrainingsListResponse(trainings);
+        TrainingCursor cursor = TrainingCursor.decode(filter.cursor());
+        if (Objects.nonNull(cursor)) {
+            specification = specification.and(TrainingSpecification.after(cursor.trainingDate(), cursor.id()));
+        }
+        return specification;
     }
 
     @Transactional
@@ -259,6 +344,7 @@ public class TraineeService {
     }
 
 
+    @Transactional(readOnly = true)
     public UnassignedActiveTrainerListResponse getUnassignedActiveTrainersForTrainee(String username) {
         logger.info("Fetching unassigned active trainers for trainee. username={}", username);
 
@@ -6,29 +6,31 @@ import com.epam.gymcrm.api.mapper.TrainerTrainingsListResponseMapper;
 import com.epam.gymcrm.api.mapper.UpdateTrainerProfileResponseMapper;
 import com.epam.gymcrm.api.payload.request.TrainerRegistrationRequest;
 import com.epam.gymcrm.api.payload.request.TrainerTrainingsFilter;
+import com.epam.gymcrm.api.payload.request.TrainingCursor;
 import com.epam.gymcrm.api.payload.request.UpdateActiveStatusRequest;
 import com.epam.gymcrm.api.payload.request.UpdateTrainerProfileRequest;
 import com.epam.gymcrm.api.payload.response.TrainerProfileResponse;
 import com.epam.gymcrm.api.payload.response.TrainerRegistrationResponse;
+import com.epam.gymcrm.api.payload.response.TrainerTrainingInfo;
 import com.epam.gymcrm.api.payload.response.TrainerTrainingsListResponse;
 import com.epam.gymcrm.api.payload.response.UpdateTrainerProfileResponse;
 import com.epam.gymcrm.db.entity.TrainerEntity;
 import com.epam.gymcrm.db.entity.TrainingEntity;
-import com.epam.gymcrm.db.entity.TrainingTypeEntity;
 import com.epam.gymcrm.db.repository.TraineeRepository;
 import com.epam.gymcrm.db.repository.TrainerRepository;
 import com.epam.gymcrm.db.repository.TrainingRepository;
-import com.epam.gymcrm.db.repository.TrainingTypeRepository;
+import com.epam.gymcrm.db.repository.projection.TrainerTrainingView;
 import com.epam.gymcrm.db.repository.specification.TrainerTrainingSpecification;
 import com.epam.gymcrm.domain.exception.BadRequestException;
 import com.epam.gymcrm.domain.exception.NotFoundException;
 import com.epam.gymcrm.domain.mapper.TrainerDomainMapper;
-import com.epam.gymcrm.domain.mapper.TrainingTypeDomainMapper;
 import com.epam.gymcrm.domain.model.Trainer;
+import com.epam.gymcrm.domain.model.TrainingType;
 import com.epam.gymcrm.domain.model.User;
 import com.epam.gymcrm.infrastructure.monitoring.metrics.TrainerMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,6 +38,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static com.epam.gymcrm.util.DateConstants.DEFAULT_DATE_FORMATTER;
 
@@ -45,7 +48,7 @@ public class TrainerService {
     private final TrainerRepository trainerRepository;
     private final TraineeRepository traineeRepository;
     private final TrainingRepository trainingRepository;
-    private final TrainingTypeRepository trainingTypeRepository;
+    private final TrainingTypeService trainingTypeService;
     private final TrainerMetrics metrics;
     private final UserAccountService userAccountService;
 
@@ -55,13 +58,13 @@ public class TrainerService {
             TrainerRepository trainerRepository,
             TraineeRepository traineeRepository,
             TrainingRepository trainingRepository,
-            TrainingTypeRepository trainingTypeRepository,
+            TrainingTypeService trainingTypeService,
             TrainerMetrics metrics,
             UserAccountService userAccountService) {
         this.trainerRepository = trainerRepository;
         this.traineeRepository = traineeRepository;
         this.trainingRepository = trainingRepository;
-        this.trainingTypeRepository = trainingTypeRepository;
+        this.trainingTypeService = trainingTypeService;
         this.metrics = metrics;
         this.userAccountService = userAccountService;
     }
@@ -70,7 +73,7 @@ public class TrainerService {
     public TrainerRegistrationResponse createTrainer(TrainerRegistrationRequest request) {
         logger.info("Registering new trainer: {} {}", request.firstName(), request.lastName());
 
-        TrainingTypeEntity specialization = trainingTypeRepository.findById(request.specialization())
+        TrainingType specialization = trainingTypeService.findById(request.specialization())
                 .orElseThrow(() -> {
                     logger.warn("Trainer registration failed: specialization not found. id={}", request.specialization());
                     return new NotFoundException("Specialization (training type) not found. id=" + request.specialization());
@@ -85,7 +88,7 @@ public class TrainerService {
 
         Trainer trainer = new Trainer();
         trainer.setUser(user);
-        trainer.setSpecialization(TrainingTypeDomainMapper.toDomain(specialization));
+        trainer.setSpecialization(specialization);
 
         TrainerEntity trainerEntity = TrainerDomainMapper.toTrainerEntity(trainer);
 
@@ -97,6 +100,7 @@ public class TrainerService {
         return TrainerRegistrationResponseMapper.toResponse(saved, user.getRawPassword());
     }
 
+    @Transactional(readOnly = true)
     public TrainerProfileResponse getTrainerProfile(String username) {
         logger.info("Trainer profile request received. username={}", username);
 
@@ -137,16 +141,50 @@ public class TrainerService {
         return UpdateTrainerProfileResponseMapper.toResponse(updatedEntity);
     }
 
+    @Transactional(readOnly = true)
     public TrainerTrainingsListResponse getTrainerTrainings(TrainerTrainingsFilter filter) {
-        logger.info("Trainer trainings requested. username={}, periodFrom={}, periodTo={}, traineeName={}",
-                filter.username(), filter.periodFrom(), filter.periodTo(), filter.traineeName());
+        logger.info("Trainer trainings requested. username={}, periodFrom={}, periodTo={}, traineeName={}, cursor={}, limit={}",
+                filter.username(), filter.periodFrom(), filter.periodTo(), filter.traineeName(), filter.cursor(), filter.limit());
+
+        requireTrainerExists(filter.username());
+        Specification<TrainingEntity> specification = trainerTrainingsSpecification(filter);
+
+        if (filter.isPaged()) {
+            TrainingPages.Page<TrainerTrainingView> page = TrainingPages.fetch(filter.limit(),
+                    limit -> trainingRepository.findTrainerTrainingViews(specification, TrainingPages.KEYSET_ORDER, limit));
+            logger.info("Trainer trainings page fetched. username={}, trainingsCount={}, hasMore={}",
+                    filter.username(), page.rows().size(), Objects.nonNull(page.nextCursor()));
+            return TrainerTrainingsListResponseMapper.toTrainerTrainingsListResponse(page.rows(), page.nextCursor());
+        }
 
-        trainerRepository.findByUserUsernameWithTrainees(filter.username())
-                .orElseThrow(() -> {
-                    logger.warn("Trainer not found while fetching trainings: username={}", filter.username());
-                    return new NotFoundException("Trainer not found: " + filter.username());
-                });
+        List<TrainerTrainingView> trainings = trainingRepository.findTrainerTrainingViews(
+                specification, TrainingPages.KEYSET_ORDER, Limit.unlimited());
+
+        logger.info("Trainer trainings fetch completed. username={}, trainingsCount={}", filter.username(), trainings.size());
+
+        return TrainerTrainingsListResponseMapper.toTrainerTrainingsListResponse(trainings, null);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamTrainerTrainings(TrainerTrainingsFilter filter, Consumer<TrainerTrainingInfo> sink) {
+        logger.info("Trainer trainings stream requested. username={}, cursor={}", filter.username(), filter.cursor());
+
+        requireTrainerExists(filter.username());
+        long count = TrainingPages.drain(
+                trainingRepository.streamTrainerTrainingViews(trainerTrainingsSpecification(filter), TrainingPages.KEYSET_ORDER),
+                view -> sink.accept(TrainerTrainingsListResponseMapper.toTrainerTrainingInfo(view)));
 
+        logger.info("Trainer trainings stream completed. username={}, trainingsCount={}", filter.username(), count);
+    }
+
+    private void requireTrainerExists(String username) {
+        if (!trainerRepository.existsByUserUsername(username)) {
+            logger.warn("Trainer not found while fetching trainings: username={}", username);
+            throw new NotFoundException("Trainer not found: " + username);
+        }
+    }
+
+    private Specification<TrainingEntity> trainerTrainingsSpecification(TrainerTrainingsFilter filter) {
         LocalDate from = null, to = null;
         if (Objects.nonNull(filter.periodFrom()) && !filter.periodFrom().isBlank()) {
             logger.debug("Filtering from date: {}", filter.periodFrom());
@@ -162,11 +200,11 @@ public class TrainerService {
                 .and(TrainerTrainingSpecification.toDate(to))
                 .and(TrainerTrainingSpecification.traineeName(filter.traineeName()));
 
-        List<TrainingEntity> trainings = trainingRepository.findAll(specification);
-
-        logger.info("Trainer trainings fetch completed. username={}, trainingsCount={}", filter.username(), trainings.size());
-
-        return TrainerTrainingsListResponseMapper.toTrainerTrainingsListResponse(trainings);
+        TrainingCursor cursor = TrainingCursor.decode(filter.cursor());
+        if (Objects.nonNull(cursor)) {
+            specification = specification.and(TrainerTrainingSpecification.after(cursor.trainingDate(), cursor.id()));
+        }
+        return specification;
     }
 
     @Transactional
@@ -0,0 +1,180 @@
+package com.epam.gymcrm.domain.service;
+
+import com.epam.gymcrm.api.payload.request.AddTrainingRequest;
+import com.epam.gymcrm.api.payload.request.TrainingImportRow;
+import com.epam.gymcrm.api.payload.response.TrainingImportRowError;
+import com.epam.gymcrm.db.entity.TraineeEntity;
+import com.epam.gymcrm.db.entity.TrainerEntity;
+import com.epam.gymcrm.db.entity.TrainingEntity;
+import com.epam.gymcrm.db.repository.TraineeRepository;
+import com.epam.gymcrm.db.repository.TrainerRepository;
+import com.epam.gymcrm.db.repository.TrainingRepository;
+import com.epam.gymcrm.db.repository.projection.TrainingSlotView;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.epam.gymcrm.util.DateConstants.DEFAULT_DATE_TIME_FORMATTER;
+import static com.epam.gymcrm.util.DateConstants.DEFAULT_DATE_TIME_PATTERN;
+
+@Service
+public class TrainingImportChunkWriter {
+
+    public record ChunkResult(int imported, List<TrainingImportRowError> errors) {}
+
+    private final TraineeRepository traineeRepository;
+    private final TrainerRepository trainerRepository;
+    private final TrainingRepository trainingRepository;
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    public TrainingImportChunkWriter(TraineeRepository traineeRepository,
+                                     TrainerRepository trainerRepository,
+                                     TrainingRepository trainingRepository,
+                                     Validator validator,
+                                     EntityManager entityManager) {
+        this.traineeRepository = traineeRepository;
+        this.trainerRepository = trainerRepository;
+        this.trainingRepository = trainingRepository;
+        this.validator = validator;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional
+    public ChunkResult write(List<TrainingImportRow> rows) {
+        List<TrainingImportRowError> errors = new ArrayList<>();
+
+        // Bean validation, same rules as the single-training endpoint
+        List<TrainingImportRow> valid = new ArrayList<>(rows.size());
+        for (TrainingImportRow row : rows) {
+            Set<ConstraintViolation<AddTrainingRequest>> violations = validator.validate(row.request());
+            if (violations.isEmpty()) {
+                valid.add(row);
+            } else {
+                errors.add(new TrainingImportRowError(row.line(), violations.iterator().next().getMessage()));
+            }
+        }
+
+        // One IN query per side for the whole chunk
+        Map<String, TraineeEntity> trainees = valid.isEmpty() ? Map.of() : traineeRepository
+                .findAllWithTrainersByUserUsernameIn(usernames(valid, AddTrainingRequest::traineeUsername))
+                .stream()
+                .collect(Collectors.toMap(t -> t.getUser().getUsername(), Function.identity()));
+        Map<String, TrainerEntity> trainers = valid.isEmpty() ? Map.of() : trainerRepository
+                .findAllWithUserByUserUsernameIn(usernames(valid, AddTrainingRequest::trainerUsername))
+                .stream()
+                .collect(Collectors.toMap(t -> t.getUser().getUsername(), Function.identity()));
+
+        Map<Long, List<TrainingSlotView>> booked = bookedSlots(valid, trainers.values());
+
+        List<TrainingEntity> trainings = new ArrayList<>(valid.size());
+        for (TrainingImportRow row : valid) {
+            AddTrainingRequest request = row.request();
+
+            TraineeEntity trainee = trainees.get(request.traineeUsername());
+            if (Objects.isNull(trainee)) {
+                errors.add(new TrainingImportRowError(row.line(), "Trainee not found: " + request.traineeUsername()));
+                continue;
+            }
+            TrainerEntity trainer = trainers.get(request.trainerUsername());
+            if (Objects.isNull(trainer)) {
+                errors.add(new TrainingImportRowError(row.line(), "Trainer not found: " + request.trainerUsername()));
+                continue;
+            }
+
+            LocalDateTime trainingDate = parseDate(request.trainingDate());
+            if (Objects.isNull(trainingDate)) {
+                errors.add(new TrainingImportRowError(row.line(),
+                        "Invalid trainingDate format. Must be " + DEFAULT_DATE_TIME_PATTERN));
+                continue;
+            }
+
+            List<TrainingSlotView> trainerSlots = booked.computeIfAbsent(trainer.getId(), id -> new ArrayList<>());
+            if (trainerSlots.stream().anyMatch(slot -> overlaps(slot, trainingDate, request.trainingDuration()))) {
+                errors.add(new TrainingImportRowError(row.line(),
+                        "Trainer is already assigned to another training at the same time!"));
+                continue;
+            }
+            trainerSlots.add(new TrainingSlotView(null, trainer.getId(), trainingDate, request.trainingDuration()));
+
+            TrainingEntity training = new TrainingEntity();
+            training.setTrainee(trainee);
+            training.setTrainer(trainer);
+            training.setTrainingName(request.trainingName());
+            training.setTrainingType(trainer.getTrainingType());
+            training.setTrainingDate(trainingDate);
+            training.setTrainingDuration(request.trainingDuration());
+
+            trainee.getTrainers().add(trainer);
+            trainings.add(training);
+        }
+
+        // Sequence ids let Hibernate send these as JDBC batches. A booking committed elsewhere since
+        // bookedSlots ran fails the flush on trainings_no_overlap and rejects the chunk as a whole.
+        trainingRepository.saveAll(trainings);
+        trainingRepository.flush();
+        entityManager.clear();
+
+        return new ChunkResult(trainings.size(), errors);
+    }
+
+    // Trainings of the chunk's trainers in the chunk's time window, loaded with one query per chunk
+    private Map<Long, List<TrainingSlotView>> bookedSlots(List<TrainingImportRow> rows, Collection<TrainerEntity> trainers) {
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        for (TrainingImportRow row : rows) {
+            LocalDateTime start = parseDate(row.request().trainingDate());
+            if (Objects.isNull(start)) continue;
+            LocalDateTime end = start.plusMinutes(row.request().trainingDuration());
+            from = Objects.isNull(from) || start.isBefore(from) ? start : from;
+            to = Objects.isNull(to) || end.isAfter(to) ? end : to;
+        }
+        Map<Long, List<TrainingSlotView>> booked = new HashMap<>();
+        if (Objects.isNull(from) || trainers.isEmpty()) {
+            return booked;
+        }
+        List<Long> trainerIds = trainers.stream().map(TrainerEntity::getId).toList();
+        for (TrainingSlotView slot : trainingRepository.findSlotsOverlapping(trainerIds, from, to)) {
+            booked.computeIfAbsent(slot.trainerId(), id -> new ArrayList<>()).add(slot);
+        }
+        return booked;
+    }
+
+    // Same rule as the trainings_no_overlap constraint: [start, end), a zero-length training occupies its start
+    private static boolean overlaps(TrainingSlotView slot, LocalDateTime start, int durationMinutes) {
+        LocalDateTime slotStart = slot.trainingDate();
+        LocalDateTime slotEnd = slotStart.plusMinutes(slot.trainingDuration());
+        LocalDateTime end = start.plusMinutes(durationMinutes);
+        return (start.isBefore(slotEnd) || start.equals(slotStart))
+                && (slotStart.isBefore(end) || slotStart.equals(start));
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        try {
+            return LocalDateTime.parse(value, DEFAULT_DATE_TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static Set<String> usernames(List<TrainingImportRow> rows, Function<AddTrainingRequest, String> username) {
+        return rows.stream()
+                .map(TrainingImportRow::request)
+                .map(username)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,111 @@
+package com.epam.gymcrm.domain.service;
+
+import com.epam.gymcrm.api.mapper.TrainingImportRowMapper;
+import com.epam.gymcrm.api.payload.request.TrainingImportFormat;
+import com.epam.gymcrm.api.payload.request.TrainingImportRow;
+import com.epam.gymcrm.api.payload.response.TrainingImportResponse;
+import com.epam.gymcrm.api.payload.response.TrainingImportRowError;
+import com.epam.gymcrm.domain.exception.BadRequestException;
+import com.epam.gymcrm.infrastructure.monitoring.metrics.TrainingMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TrainingImportService {
+
+    private final TrainingImportChunkWriter chunkWriter;
+    private final TrainingMetrics metrics;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingImportService.class);
+
+    static final String CHUNK_REJECTED = "Chunk rejected, see server logs";
+
+    public TrainingImportService(TrainingImportChunkWriter chunkWriter,
+                                 TrainingMetrics metrics,
+                                 ObjectMapper objectMapper,
+                                 @Value("${training.import.chunk-size:500}") int chunkSize) {
+        this.chunkWriter = chunkWriter;
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public TrainingImportResponse importTrainings(InputStream body, TrainingImportFormat format) {
+        logger.info("Bulk training import started. format={}, chunkSize={}", format, chunkSize);
+
+        List<TrainingImportRowError> errors = new ArrayList<>();
+        int total = 0;
+        int imported = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            int line = 0;
+            Map<String, Integer> columns = null;
+            if (format == TrainingImportFormat.CSV) {
+                columns = TrainingImportRowMapper.csvColumns(reader.readLine());
+                line++;
+            }
+
+            List<TrainingImportRow> chunk = new ArrayList<>(chunkSize);
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) continue;
+                total++;
+                try {
+                    chunk.add(new TrainingImportRow(line, format == TrainingImportFormat.CSV
+                            ? TrainingImportRowMapper.fromCsv(text, columns)
+                            : TrainingImportRowMapper.fromNdjson(text, objectMapper)));
+                } catch (BadRequestException e) {
+                    errors.add(new TrainingImportRowError(line, e.getMessage()));
+                }
+                if (chunk.size() == chunkSize) {
+                    imported += writeChunk(chunk, errors);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            imported += writeChunk(chunk, errors);
+        } catch (IOException e) {
+            logger.error("Bulk training import aborted: failed to read upload. importedSoFar={}", imported);
+            throw new UncheckedIOException(e);
+        }
+
+        errors.sort(Comparator.comparingInt(TrainingImportRowError::line));
+        metrics.incrementImported(imported);
+        metrics.incrementImportRejected(errors.size());
+
+        logger.info("Bulk training import completed. totalRows={}, imported={}, failed={}", total, imported, errors.size());
+        return new TrainingImportResponse(total, imported, errors.size(), errors);
+    }
+
+    private int writeChunk(List<TrainingImportRow> chunk, List<TrainingImportRowError> errors) {
+        if (chunk.isEmpty()) return 0;
+        try {
+            TrainingImportChunkWriter.ChunkResult result = chunkWriter.write(chunk);
+            errors.addAll(result.errors());
+            return result.imported();
+        } catch (RuntimeException e) {
+            // The chunk rolled back as a whole; report every row so the caller can retry them.
+            // The cause can carry SQL and schema details, so it only goes to the log (tagged with the transactionId).
+            logger.error("Bulk training import chunk failed. firstLine={}, rows={}",
+                    chunk.get(0).line(), chunk.size(), e);
+            chunk.forEach(row -> errors.add(new TrainingImportRowError(row.line(), CHUNK_REJECTED)));
+            return 0;
+        }
+    }
+}
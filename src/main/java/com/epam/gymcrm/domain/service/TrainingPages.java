@@ -0,0 +1,52 @@
+package com.epam.gymcrm.domain.service;
+
+import com.epam.gymcrm.api.payload.request.TrainingCursor;
+import com.epam.gymcrm.db.repository.projection.TrainingRowView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Keyset pagination and streaming over trainings ordered by (trainingDate, id).
+ */
+final class TrainingPages {
+
+    static final Sort KEYSET_ORDER = Sort.by("trainingDate", "id");
+
+    record Page<V>(List<V> rows, String nextCursor) {}
+
+    private TrainingPages() {
+    }
+
+    static <V extends TrainingRowView> Page<V> fetch(Integer requestedLimit, Function<Limit, List<V>> query) {
+        int limit = TrainingCursor.resolveLimit(requestedLimit);
+
+        // One extra row tells whether another page exists
+        List<V> rows = query.apply(Limit.of(limit + 1));
+
+        if (rows.size() <= limit) {
+            return new Page<>(rows, null);
+        }
+        List<V> page = rows.subList(0, limit);
+        V last = page.get(limit - 1);
+        return new Page<>(page, new TrainingCursor(last.trainingDate(), last.id()).encode());
+    }
+
+    // Rows are constructor projections, not managed entities, so the persistence context stays empty
+    static <V> long drain(Stream<V> rows, Consumer<V> sink) {
+        long count = 0;
+        try (rows) {
+            Iterator<V> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -19,9 +19,11 @@ import com.epam.gymcrm.domain.exception.TrainerScheduleConflictException;
 import com.epam.gymcrm.infrastructure.monitoring.metrics.TrainingMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -34,6 +36,9 @@ public class TrainingService {
     private final TraineeRepository traineeRepository;
     private final TrainingMetrics metrics;
 
+    // PostgreSQL exclusion_violation, raised by the trainings_no_overlap constraint
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private static final Logger logger = LoggerFactory.getLogger(TrainingService.class);
 
     public TrainingService(TrainingRepository trainingRepository,
@@ -91,25 +96,22 @@ public class TrainingService {
         traineeEntity.getTrainers().add(trainerEntity);
         traineeRepository.save(traineeEntity);
 
-        // Trainer availability check
-        checkTrainerAvailability(trainer.getId(), training.getTrainingDate());
-
-        // Save training
-        trainingRepository.save(trainingEntity);
+        // Save training; the trainings_no_overlap constraint rejects an overlap with any other training
+        // of the trainer, including one committed by another request or node a moment ago
+        try {
+            trainingRepository.saveAndFlush(trainingEntity);
+        } catch (DataIntegrityViolationException ex) {
+            if (!(ex.getMostSpecificCause() instanceof SQLException sqlException)
+                    || !EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                throw ex;
+            }
+            logger.warn("Trainer {} has a schedule conflict at {} (duration={}min)",
+                    trainer.getId(), training.getTrainingDate(), training.getTrainingDuration());
+            throw new TrainerScheduleConflictException("Trainer is already assigned to another training at the same time!");
+        }
         metrics.incrementCreated();
 
         logger.info("Training added successfully: trainingId={}, trainingName='{}', traineeUsername='{}', trainerUsername='{}'",
                 trainingEntity.getId(), trainingEntity.getTrainingName(), request.traineeUsername(), request.trainerUsername());
     }
-
-
-    private void checkTrainerAvailability(Long trainerId, LocalDateTime trainingDate) {
-        boolean isBusy = trainingRepository
-                .findByTrainerIdAndTrainingDate(trainerId, trainingDate)
-                .isPresent();
-        if (isBusy) {
-            logger.warn("Trainer {} has a schedule conflict at {}", trainerId, trainingDate);
-            throw new TrainerScheduleConflictException("Trainer is already assigned to another training at the same time!");
-        }
-    }
 }
@@ -2,36 +2,149 @@ package com.epam.gymcrm.domain.service;
 
 import com.epam.gymcrm.api.mapper.TrainingTypeResponseMapper;
 import com.epam.gymcrm.api.payload.response.TrainingTypeListResponse;
-import com.epam.gymcrm.db.entity.TrainingTypeEntity;
+import com.epam.gymcrm.api.payload.response.TrainingTypeResponse;
+import com.epam.gymcrm.db.listener.TrainingTypesChangedEvent;
 import com.epam.gymcrm.db.repository.TrainingTypeRepository;
 import com.epam.gymcrm.domain.mapper.TrainingTypeDomainMapper;
 import com.epam.gymcrm.domain.model.TrainingType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class TrainingTypeService {
 
+    /**
+     * Immutable view of all training types. The ETag is derived from the content, so every
+     * instance serving the same data hands out the same validator.
+     */
+    public record Snapshot(
+            TrainingTypeListResponse trainingTypes,
+            String etag,
+            Map<Long, TrainingTypeResponse> byId,
+            Map<String, TrainingTypeResponse> byName
+    ) {
+    }
+
     private final TrainingTypeRepository trainingTypeRepository;
     private static final Logger logger = LoggerFactory.getLogger(TrainingTypeService.class);
 
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
     public TrainingTypeService(TrainingTypeRepository trainingTypeRepository) {
         this.trainingTypeRepository = trainingTypeRepository;
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Snapshot loaded = getSnapshot();
+        logger.info("Training type snapshot warmed up. Count={}, etag={}", loaded.byId().size(), loaded.etag());
+    }
+
     public TrainingTypeListResponse findAllTrainingTypes() {
         logger.info("Fetching all training types.");
 
-        List<TrainingTypeEntity> trainingTypeEntityList = trainingTypeRepository.findAll();
+        TrainingTypeListResponse response = getSnapshot().trainingTypes();
+
+        logger.info("Training types fetched. Count={}", response.trainingTypes().size());
+        return response;
+    }
+
+    public Optional<TrainingType> findById(Long id) {
+        if (Objects.isNull(id)) return Optional.empty();
+        return Optional.ofNullable(getSnapshot().byId().get(id)).map(TrainingTypeService::toDomain);
+    }
+
+    public Optional<TrainingType> findByName(String name) {
+        if (Objects.isNull(name)) return Optional.empty();
+        return Optional.ofNullable(getSnapshot().byName().get(name)).map(TrainingTypeService::toDomain);
+    }
+
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        loadLock.lock();
+        try {
+            if (Objects.isNull(snapshot)) {
+                long loadedGeneration = generation.get();
+                Snapshot loaded = load();
+                // A change committed while loading keeps the slot empty for the next reader
+                if (loadedGeneration == generation.get()) {
+                    snapshot = loaded;
+                }
+                return loaded;
+            }
+            return snapshot;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTrainingTypesChanged(TrainingTypesChangedEvent event) {
+        logger.info("Training type changed, invalidating snapshot. id={}", event.trainingTypeId());
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
 
-        List<TrainingType> domainTypes = trainingTypeEntityList.stream()
+    private Snapshot load() {
+        List<TrainingType> domainTypes = trainingTypeRepository.findAll().stream()
                 .map(TrainingTypeDomainMapper::toDomain)
+                .sorted(Comparator.comparing(TrainingType::getId))
                 .toList();
 
-        logger.info("Training types fetched. Count={}", trainingTypeEntityList.size());
-        return TrainingTypeResponseMapper.toListResponse(domainTypes);
+        TrainingTypeListResponse response = TrainingTypeResponseMapper.toListResponse(domainTypes);
+        List<TrainingTypeResponse> types = response.trainingTypes();
+
+        return new Snapshot(
+                response,
+                etagOf(types),
+                types.stream().collect(Collectors.toUnmodifiableMap(TrainingTypeResponse::id, Function.identity())),
+                types.stream().collect(Collectors.toUnmodifiableMap(TrainingTypeResponse::name, Function.identity(), (first, second) -> first))
+        );
+    }
+
+    private static String etagOf(List<TrainingTypeResponse> types) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (TrainingTypeResponse type : types) {
+                digest.update((type.id() + ":" + type.name() + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static TrainingType toDomain(TrainingTypeResponse response) {
+        TrainingType trainingType = new TrainingType();
+        trainingType.setId(response.id());
+        trainingType.setTrainingTypeName(response.name());
+        return trainingType;
     }
 }
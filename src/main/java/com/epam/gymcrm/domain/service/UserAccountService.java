@@ -2,51 +2,50 @@ package com.epam.gymcrm.domain.service;
 
 import com.epam.gymcrm.db.repository.UserRepository;
 import com.epam.gymcrm.domain.model.User;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.epam.gymcrm.infrastructure.security.CredentialGenerator;
+import com.epam.gymcrm.infrastructure.security.PasswordHasher;
+import com.epam.gymcrm.infrastructure.security.UsernameFilter;
 import org.springframework.stereotype.Service;
 
-import java.security.SecureRandom;
-
 @Service
 public class UserAccountService {
-    private static final int PASSWORD_CHAR_LENGTH = 10;
-
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UsernameFilter usernameFilter;
+    private final CredentialGenerator credentialGenerator;
 
-    public UserAccountService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserAccountService(UserRepository userRepository, PasswordHasher passwordHasher,
+                              UsernameFilter usernameFilter, CredentialGenerator credentialGenerator) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.usernameFilter = usernameFilter;
+        this.credentialGenerator = credentialGenerator;
     }
 
     public String generateUniqueUsername(String firstName, String lastName) {
         String base = (firstName + "." + lastName).toLowerCase();
-        String candidate = base;
-        int counter = 1;
-        while (userRepository.existsByUsername(candidate)) {
-            candidate = base + counter++;
-        }
+        String candidate;
+        do {
+            long suffix = userRepository.nextUsernameSuffix(base);
+            candidate = suffix == 0 ? base : base + suffix;
+            // Another base can produce the same name, e.g. "john.doe1" for last name "doe1"
+        } while (usernameFilter.mightExist(candidate) && userRepository.existsByUsername(candidate));
         return candidate;
     }
 
     public String generateRandomPassword() {
-        SecureRandom random = new SecureRandom();
-        StringBuilder sb = new StringBuilder(PASSWORD_CHAR_LENGTH);
-        for (int i = 0; i < PASSWORD_CHAR_LENGTH; i++) {
-            int ascii = 33 + random.nextInt(94);
-            sb.append((char) ascii);
-        }
-        return sb.toString();
+        return credentialGenerator.password();
     }
 
     public String hash(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return passwordHasher.encode(rawPassword);
     }
 
     public User createUser(String firstName, String lastName) {
-        String username = generateUniqueUsername(firstName, lastName);
         String raw = generateRandomPassword();
         String hashed = hash(raw);
+        // Allocated last: the suffix counter row stays locked until the registration commits
+        String username = generateUniqueUsername(firstName, lastName);
 
         User user = new User();
         user.setFirstName(firstName);
@@ -56,6 +55,9 @@ public class UserAccountService {
         user.setRawPassword(raw);
         user.setActive(Boolean.TRUE);
 
+        // Known before the insert commits, so the first login cannot be turned away
+        usernameFilter.add(username);
+
         return user;
     }
 }
@@ -0,0 +1,226 @@
+package com.epam.gymcrm.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+
+/**
+ * Sends connections of read-only transactions to the replicas and everything else to the primary.
+ * Replicas are used round-robin while their measured lag is within {@code maxLag}; a lagging or
+ * unreachable replica is skipped, and when none is usable the primary serves the read, so reads
+ * never fail because of a replica. Lag is probed in the background with {@code lagQuery}, which
+ * must return seconds behind the primary, or NULL when the replica cannot tell.
+ * <p>
+ * The read-only flag is only known once the transaction has started, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers the
+ * borrow to the first statement.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    // Zero on the primary. NULL on a replica whose WAL receiver is not streaming: cut off from the
+    // primary, it has replayed everything it received and would otherwise look current. A caught-up
+    // replica is charged for silence beyond the primary's keepalive interval (wal_sender_timeout / 2),
+    // so one that stops hearing from the primary drops out before wal_receiver_timeout ends the
+    // stream. A replica still replaying reports the age of its last replayed transaction.
+    // pg_stat_wal_receiver is only readable with the pg_read_all_stats role, without it this is NULL.
+    public static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN receiver.status IS DISTINCT FROM 'streaming' THEN NULL
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn()
+                       THEN GREATEST(0, EXTRACT(EPOCH FROM now() - receiver.last_msg_receipt_time
+                                                - current_setting('wal_sender_timeout')::interval / 2))
+                     ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+                   END
+            FROM (SELECT 1) AS probe
+            LEFT JOIN pg_stat_wal_receiver AS receiver ON true""";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile List<Replica> usable = List.of();
+    private final ScheduledExecutorService prober;
+
+    private final Counter primaryReadWrite;
+    private final Counter primaryNoReplica;
+    private final Counter primaryFallback;
+
+    public ReadReplicaRoutingDataSource(DataSource primary,
+                                 List<Replica> replicas,
+                                 MeterRegistry registry,
+                                 String lagQuery,
+                                 Duration maxLag,
+                                 Duration probeInterval) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.primary = primary;
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+
+        this.primaryReadWrite = routed(registry, "primary", "primary", "read_write");
+        this.primaryNoReplica = routed(registry, "primary", "primary", "no_replica");
+        this.primaryFallback = routed(registry, "primary", "primary", "replica_failed");
+        for (Replica replica : replicas) {
+            replica.routed = routed(registry, "replica", replica.name(), "healthy");
+            Gauge.builder("db_replica_lag_seconds", replica, r -> r.lagSeconds)
+                    .description("Replication lag measured by the last probe, NaN when the replica was unreachable")
+                    .tag("replica", replica.name())
+                    .register(registry);
+            Gauge.builder("db_replica_usable", replica, r -> isUsable(r) ? 1 : 0)
+                    .description("1 while the replica receives read-only traffic")
+                    .tag("replica", replica.name())
+                    .register(registry);
+        }
+
+        probeAll();
+        this.prober = newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "replica-lag-probe");
+            t.setDaemon(true);
+            return t;
+        });
+        long intervalMs = probeInterval.toMillis();
+        prober.scheduleWithFixedDelay(this::probeAll, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryReadWrite.increment();
+            return primary.getConnection();
+        }
+        List<Replica> candidates = usable;
+        if (candidates.isEmpty()) {
+            primaryNoReplica.increment();
+            return primary.getConnection();
+        }
+        int start = Math.floorMod(next.getAndIncrement(), candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Replica replica = candidates.get((start + i) % candidates.size());
+            try {
+                Connection connection = replica.dataSource().getConnection();
+                replica.routed.increment();
+                return connection;
+            } catch (SQLException e) {
+                // Kept out of rotation until the next successful probe
+                logger.warn("Replica connection failed, trying next. replica={}, cause={}", replica.name(), e.getMessage());
+                replica.lagSeconds = Double.NaN;
+                refreshUsable();
+            }
+        }
+        primaryFallback.increment();
+        return primary.getConnection();
+    }
+
+    // Replica pools are built with the primary's credentials, explicit ones can only mean the primary
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        primaryReadWrite.increment();
+        return primary.getConnection(username, password);
+    }
+
+    void probeAll() {
+        for (Replica replica : replicas) {
+            double lag = probe(replica);
+            boolean wasUsable = isUsable(replica);
+            replica.lagSeconds = lag;
+            if (wasUsable != isUsable(replica)) {
+                logger.warn("Replica {} read traffic. replica={}, lagSeconds={}, maxLagSeconds={}",
+                        wasUsable ? "removed from" : "returned to", replica.name(), lag, maxLagSeconds);
+            }
+        }
+        refreshUsable();
+    }
+
+    // Rotating over usable replicas only keeps the load even when one of them is skipped
+    private void refreshUsable() {
+        usable = replicas.stream().filter(this::isUsable).toList();
+    }
+
+    private double probe(Replica replica) {
+        try (Connection connection = replica.dataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) return Double.NaN;
+            double lag = rs.getDouble(1);
+            return rs.wasNull() ? Double.NaN : lag;
+        } catch (SQLException | RuntimeException e) {
+            logger.debug("Replica lag probe failed. replica={}, cause={}", replica.name(), e.getMessage());
+            return Double.NaN;
+        }
+    }
+
+    // NaN (unknown) fails the comparison, so an unprobed replica gets no traffic
+    private boolean isUsable(Replica replica) {
+        return replica.lagSeconds <= maxLagSeconds;
+    }
+
+    private static Counter routed(MeterRegistry registry, String route, String target, String reason) {
+        return Counter.builder("db_read_routing_total")
+                .description("Connections handed out, by where they were served and why")
+                .tag("route", route)
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    // Replica pools are owned here, the primary belongs to whoever passed it in
+    public void shutdown() {
+        prober.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("Replica pool close failed. replica={}, cause={}", replica.name(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * One replica pool. Lag is written by the probe thread and read by request threads.
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile double lagSeconds = Double.NaN;
+        private Counter routed;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.epam.gymcrm.infrastructure.monitoring.cache;
+
+import com.epam.gymcrm.db.cache.CacheRegions;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Per-region statistics and eviction of the Hibernate second-level cache,
+ * exposed as the {@code l2cache} actuator endpoint.
+ */
+@Component
+@Endpoint(id = "l2cache")
+public class SecondLevelCacheEndpoint {
+
+    public record RegionStats(long hits, long misses, long puts) {}
+
+    private static final Logger logger = LoggerFactory.getLogger(SecondLevelCacheEndpoint.class);
+
+    private static final List<String> REGIONS =
+            Stream.concat(CacheRegions.ENTITY_REGIONS.stream(), Stream.of(CacheRegions.QUERY_RESULTS)).toList();
+
+    private final SessionFactory sessionFactory;
+
+    public SecondLevelCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @ReadOperation
+    public Map<String, RegionStats> regions() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, RegionStats> regions = new LinkedHashMap<>();
+        for (String region : REGIONS) {
+            CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+            if (Objects.nonNull(stats)) {
+                regions.put(region, new RegionStats(stats.getHitCount(), stats.getMissCount(), stats.getPutCount()));
+            }
+        }
+        return regions;
+    }
+
+    @DeleteOperation
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+        logger.info("Evicted all second-level cache regions");
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Void> evictRegion(@Selector String region) {
+        if (!REGIONS.contains(region)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        sessionFactory.getCache().evictRegion(region);
+        logger.info("Evicted second-level cache region. region={}", region);
+        return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+    }
+}
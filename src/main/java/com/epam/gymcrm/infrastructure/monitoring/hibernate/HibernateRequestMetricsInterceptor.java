@@ -0,0 +1,108 @@
+package com.epam.gymcrm.infrastructure.monitoring.hibernate;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Publishes the Hibernate work of each request as {@code hibernate_request_operations}, tagged with
+ * the HTTP method, the matched URI pattern and the operation, and warns when a request prepares more
+ * statements than {@code monitoring.query-guard.max-statements}, which is how N+1 loops show up.
+ */
+@Component
+public class HibernateRequestMetricsInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(HibernateRequestMetricsInterceptor.class);
+
+    static final String METRIC_NAME = "hibernate_request_operations";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    private static final double[] COUNT_BUCKETS = {1, 2, 5, 10, 20, 50, 100};
+
+    private final MeterRegistry registry;
+    private final int maxStatements;
+    private final ConcurrentMap<Endpoint, Summaries> summaries = new ConcurrentHashMap<>();
+
+    public HibernateRequestMetricsInterceptor(MeterRegistry registry,
+                                              @Value("${monitoring.query-guard.max-statements:20}") int maxStatements) {
+        this.registry = registry;
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestStatistics.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestStatistics statistics = RequestStatistics.stop();
+        if (Objects.isNull(statistics)) return;
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Endpoint endpoint = new Endpoint(request.getMethod(), Objects.isNull(pattern) ? UNKNOWN_URI : pattern.toString());
+        summaries(endpoint).record(statistics);
+
+        if (statistics.getStatements() > maxStatements) {
+            logger.warn("Query guard: {} {} prepared {} statements, limit is {} ({})",
+                    endpoint.method(), endpoint.uri(), statistics.getStatements(), maxStatements, statistics);
+        }
+    }
+
+    private Summaries summaries(Endpoint endpoint) {
+        Summaries existing = summaries.get(endpoint);
+        if (Objects.nonNull(existing)) return existing;
+        return summaries.computeIfAbsent(endpoint, e -> new Summaries(
+                summary(e, "statement"),
+                summary(e, "entity_load"),
+                summary(e, "entity_fetch"),
+                summary(e, "collection_load"),
+                summary(e, "collection_fetch"),
+                summary(e, "cache_hit"),
+                summary(e, "cache_miss")));
+    }
+
+    private DistributionSummary summary(Endpoint endpoint, String operation) {
+        return DistributionSummary.builder(METRIC_NAME)
+                .description("Hibernate operations per HTTP request")
+                .tag("method", endpoint.method())
+                .tag("uri", endpoint.uri())
+                .tag("operation", operation)
+                .serviceLevelObjectives(COUNT_BUCKETS)
+                .register(registry);
+    }
+
+    private record Endpoint(String method, String uri) {
+    }
+
+    private record Summaries(DistributionSummary statements,
+                             DistributionSummary entityLoads,
+                             DistributionSummary entityFetches,
+                             DistributionSummary collectionLoads,
+                             DistributionSummary collectionFetches,
+                             DistributionSummary cacheHits,
+                             DistributionSummary cacheMisses) {
+
+        void record(RequestStatistics statistics) {
+            statements.record(statistics.getStatements());
+            entityLoads.record(statistics.getEntityLoads());
+            entityFetches.record(statistics.getEntityFetches());
+            collectionLoads.record(statistics.getCollectionLoads());
+            collectionFetches.record(statistics.getCollectionFetches());
+            cacheHits.record(statistics.getCacheHits());
+            cacheMisses.record(statistics.getCacheMisses());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.epam.gymcrm.infrastructure.monitoring.hibernate;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+import java.util.Objects;
+
+/**
+ * Hibernate's own statistics, additionally counted into the {@link RequestStatistics} of the
+ * calling thread. Installed through {@code hibernate.stats.factory}; Hibernate only calls these
+ * hooks while {@code hibernate.generate_statistics} is on.
+ */
+public class RequestAwareStatistics extends StatisticsImpl {
+
+    public RequestAwareStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    @Override
+    public void prepareStatement() {
+        super.prepareStatement();
+        RequestStatistics current = RequestStatistics.current();
+        if (Objects.nonNull(current)) current.statementPrepared();
+    }
+
+    @Override
+    public void loadEntity(String entityName) {
+        super.loadEntity(entityName);
+        RequestStatistics current = RequestStatistics.current();
+        if (Objects.nonNull(current)) current.entityLoaded();
+    }
+
+    @Override
+    public void fetchEntity(String entityName) {
+        super.fetchEntity(entityName);
+        RequestStatistics current = RequestStatistics.current();
+        if (Objects.nonNull(current)) current.entityFetched(entityName.substring(entityName.lastIndexOf('.') + 1));
+    }
+
+    @Override
+    public void loadCollection(String role) {
+        super.loadCollection(role);
+        RequestStatistics current = RequestStatistics.current();
+        if (Objects.nonNull(current)) current.collectionLoaded();
+    }
+
+    @Override
+    public void fetchCollection(String role) {
+        super.fetchCollection(role);
+        RequestStatistics current = RequestStatistics.current();
+        if (Objects.nonNull(current)) current.collectionFetched(shortRole(role));
+    }
+
+    @Override
+    public void entityCacheHit(NavigableRole entityName, String regionName) {
+        super.entityCacheHit(entityName, regionName);
+        RequestStatistics current = RequestStatistics.current();
+        if (Objects.nonNull(current)) current.cacheHit();
+    }
+
+    @Override
+    public void entityCacheMiss(NavigableRole entityName, String regionName) {
+        super.entityCacheMiss(entityName, regionName);
+        RequestStatistics current = RequestStatistics.current();
+        if (Objects.nonNull(current)) current.cacheMiss();
+    }
+
+    @Override
+    public void collectionCacheHit(NavigableRole collectionRole, String regionName) {
+        super.collectionCacheHit(collectionRole, regionName);
+        RequestStatistics current = RequestStatistics.current();
+        if (Objects.nonNull(current)) current.cacheHit();
+    }
+
+    @Override
+    public void collectionCacheMiss(NavigableRole collectionRole, String regionName) {
+        super.collectionCacheMiss(collectionRole, regionName);
+        RequestStatistics current = RequestStatistics.current();
+        if (Objects.nonNull(current)) current.cacheMiss();
+    }
+
+    @Override
+    public void queryCacheHit(String hql, String regionName) {
+        super.queryCacheHit(hql, regionName);
+        RequestStatistics current = RequestStatistics.current();
+        if (Objects.nonNull(current)) current.cacheHit();
+    }
+
+    @Override
+    public void queryCacheMiss(String hql, String regionName) {
+        super.queryCacheMiss(hql, regionName);
+        RequestStatistics current = RequestStatistics.current();
+        if (Objects.nonNull(current)) current.cacheMiss();
+    }
+
+    // com.epam.gymcrm.db.entity.TraineeEntity.trainers -> TraineeEntity.trainers
+    private static String shortRole(String role) {
+        int property = role.lastIndexOf('.');
+        return property <= 0 ? role : role.substring(role.lastIndexOf('.', property - 1) + 1);
+    }
+}
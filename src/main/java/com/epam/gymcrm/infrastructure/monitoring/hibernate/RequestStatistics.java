@@ -0,0 +1,142 @@
+package com.epam.gymcrm.infrastructure.monitoring.hibernate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Hibernate activity of the current thread between {@link #start()} and {@link #stop()}:
+ * statements prepared, entities and collections loaded or lazily fetched, and second-level
+ * cache hits and misses. Filled in by {@link RequestAwareStatistics}.
+ * <p>
+ * Scopes nest, so a guarded block inside a request is counted in both.
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private final RequestStatistics parent;
+
+    private int statements;
+    private int entityLoads;
+    private int entityFetches;
+    private int collectionLoads;
+    private int collectionFetches;
+    private int cacheHits;
+    private int cacheMisses;
+
+    // Lazy fetches per entity name or collection role, the usual suspects of an N+1
+    private final Map<String, Integer> fetches = new HashMap<>();
+
+    private RequestStatistics(RequestStatistics parent) {
+        this.parent = parent;
+    }
+
+    public static RequestStatistics start() {
+        RequestStatistics statistics = new RequestStatistics(CURRENT.get());
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Ends the innermost scope of this thread and returns it, or {@code null} if none was started.
+     */
+    public static RequestStatistics stop() {
+        RequestStatistics statistics = CURRENT.get();
+        if (Objects.isNull(statistics)) return null;
+        if (Objects.isNull(statistics.parent)) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(statistics.parent);
+        }
+        return statistics;
+    }
+
+    static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    void statementPrepared() {
+        for (RequestStatistics s = this; Objects.nonNull(s); s = s.parent) s.statements++;
+    }
+
+    void entityLoaded() {
+        for (RequestStatistics s = this; Objects.nonNull(s); s = s.parent) s.entityLoads++;
+    }
+
+    void entityFetched(String entityName) {
+        for (RequestStatistics s = this; Objects.nonNull(s); s = s.parent) {
+            s.entityFetches++;
+            s.fetches.merge(entityName, 1, Integer::sum);
+        }
+    }
+
+    void collectionLoaded() {
+        for (RequestStatistics s = this; Objects.nonNull(s); s = s.parent) s.collectionLoads++;
+    }
+
+    void collectionFetched(String role) {
+        for (RequestStatistics s = this; Objects.nonNull(s); s = s.parent) {
+            s.collectionFetches++;
+            s.fetches.merge(role, 1, Integer::sum);
+        }
+    }
+
+    void cacheHit() {
+        for (RequestStatistics s = this; Objects.nonNull(s); s = s.parent) s.cacheHits++;
+    }
+
+    void cacheMiss() {
+        for (RequestStatistics s = this; Objects.nonNull(s); s = s.parent) s.cacheMisses++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public int getEntityFetches() {
+        return entityFetches;
+    }
+
+    public int getCollectionLoads() {
+        return collectionLoads;
+    }
+
+    public int getCollectionFetches() {
+        return collectionFetches;
+    }
+
+    public int getCacheHits() {
+        return cacheHits;
+    }
+
+    public int getCacheMisses() {
+        return cacheMisses;
+    }
+
+    /**
+     * The entity or collection role fetched lazily most often, e.g. {@code TraineeEntity.trainers x12}.
+     */
+    public String mostFetched() {
+        return fetches.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(e -> e.getKey() + " x" + e.getValue())
+                .orElse("none");
+    }
+
+    @Override
+    public String toString() {
+        return "statements=" + statements
+                + ", entityLoads=" + entityLoads
+                + ", entityFetches=" + entityFetches
+                + ", collectionLoads=" + collectionLoads
+                + ", collectionFetches=" + collectionFetches
+                + ", cacheHits=" + cacheHits
+                + ", cacheMisses=" + cacheMisses
+                + ", mostFetched=" + mostFetched();
+    }
+}
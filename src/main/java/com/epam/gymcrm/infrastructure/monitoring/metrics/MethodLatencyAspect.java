@@ -0,0 +1,104 @@
+package com.epam.gymcrm.infrastructure.monitoring.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of every public service method and repository call as {@code method_latency}, tagged
+ * with layer, type, method and outcome ({@code success} or the simple name of the thrown exception).
+ * Timers publish percentile histograms plus exact buckets at the configured SLO thresholds,
+ * which the alert rules in docker/monitoring compare against.
+ */
+@Aspect
+@Component
+public class MethodLatencyAspect {
+
+    static final String METRIC_NAME = "method_latency";
+    static final String SUCCESS = "success";
+
+    private static final String REPOSITORY_PACKAGE = "com.epam.gymcrm.db.repository";
+
+    // Spring Data proxies only expose the repository interface, the target is SimpleJpaRepository
+    private static final ClassValue<String> REPOSITORY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> proxyClass) {
+            for (Class<?> type : proxyClass.getInterfaces()) {
+                if (type.getName().startsWith(REPOSITORY_PACKAGE)) return type.getSimpleName();
+            }
+            return proxyClass.getSimpleName();
+        }
+    };
+
+    private final MeterRegistry registry;
+    private final Duration[] slos;
+    private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public MethodLatencyAspect(MeterRegistry registry,
+                               @Value("${monitoring.method-latency.slo:100ms,250ms,500ms,1s}") Duration[] slos) {
+        this.registry = registry;
+        this.slos = slos;
+    }
+
+    @Around("execution(public * com.epam.gymcrm.domain.service.TraineeService.*(..))"
+            + " || execution(public * com.epam.gymcrm.domain.service.TrainerService.*(..))"
+            + " || execution(public * com.epam.gymcrm.domain.service.TrainingService.*(..))"
+            + " || execution(public * com.epam.gymcrm.domain.service.AuthService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> type = AopProxyUtils.ultimateTargetClass(joinPoint.getTarget());
+        return time(joinPoint, "service", type, type.getSimpleName());
+    }
+
+    @Around("execution(public * *(..)) && target(org.springframework.data.repository.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> type = joinPoint.getThis().getClass();
+        return time(joinPoint, "repository", type, REPOSITORY_NAMES.get(type));
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer, Class<?> type, String typeName) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long start = System.nanoTime();
+        String outcome = SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            timer(new TimerKey(type, method, outcome), layer, typeName)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(TimerKey key, String layer, String typeName) {
+        Timer timer = timers.get(key);
+        if (Objects.nonNull(timer)) return timer;
+        return timers.computeIfAbsent(key, k -> Timer.builder(METRIC_NAME)
+                .description("Latency of service methods and repository calls")
+                .tag("layer", layer)
+                .tag("type", typeName)
+                .tag("method", k.method().getName())
+                .tag("outcome", k.outcome())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .serviceLevelObjectives(slos)
+                .register(registry));
+    }
+
+    private record TimerKey(Class<?> type, Method method, String outcome) {
+    }
+}
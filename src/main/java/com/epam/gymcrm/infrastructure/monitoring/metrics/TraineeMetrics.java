@@ -10,6 +10,7 @@ public class TraineeMetrics {
     private final Counter createdCounter;
     private final Counter updatedCounter;
     private final Counter trainerUpdateCounter;
+    private final Counter trainerReassignedCounter;
     private final Counter activatedCounter;
     private final Counter deactivatedCounter;
 
@@ -17,6 +18,7 @@ public class TraineeMetrics {
         this.createdCounter = registry.counter("trainee_registered_total");
         this.updatedCounter = registry.counter("trainee_updated_total");
         this.trainerUpdateCounter = registry.counter("trainee_trainers_updated_total");
+        this.trainerReassignedCounter = registry.counter("trainee_trainers_reassigned_total");
         this.activatedCounter = registry.counter("trainee_activated_total");
         this.deactivatedCounter = registry.counter("trainee_deactivated_total");
     }
@@ -33,6 +35,10 @@ public class TraineeMetrics {
         trainerUpdateCounter.increment();
     }
 
+    public void incrementTrainerReassigned(int trainees) {
+        trainerReassignedCounter.increment(trainees);
+    }
+
     public void incrementActivated() {
         activatedCounter.increment();
     }
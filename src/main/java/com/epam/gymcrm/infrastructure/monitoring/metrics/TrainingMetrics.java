@@ -8,12 +8,24 @@ import org.springframework.stereotype.Component;
 public class TrainingMetrics {
 
     private final Counter createdTrainings;
+    private final Counter importedTrainings;
+    private final Counter rejectedImportRows;
 
     public TrainingMetrics(MeterRegistry registry) {
         this.createdTrainings = registry.counter("training_created_total");
+        this.importedTrainings = registry.counter("training_imported_total");
+        this.rejectedImportRows = registry.counter("training_import_rejected_total");
     }
 
     public void incrementCreated() {
         createdTrainings.increment();
     }
+
+    public void incrementImported(int count) {
+        importedTrainings.increment(count);
+    }
+
+    public void incrementImportRejected(int count) {
+        rejectedImportRows.increment(count);
+    }
 }
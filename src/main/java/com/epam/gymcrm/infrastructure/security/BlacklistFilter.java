@@ -9,9 +9,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
-import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -20,18 +20,21 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * Rejects revoked tokens. Runs after the resource server's bearer token filter and reads the
+ * jti from the {@link JwtAuthenticationToken} it stored, so each token is decoded and verified
+ * only once per request.
+ */
 @Component
 public class BlacklistFilter extends OncePerRequestFilter {
 
     private final TokenBlacklist blacklist;
-    private final JwtDecoder decoder;
     private final ObjectMapper objectMapper;
 
     private final Logger logger = LoggerFactory.getLogger(BlacklistFilter.class);
 
-    public BlacklistFilter(TokenBlacklist blacklist, JwtDecoder decoder, ObjectMapper objectMapper) {
+    public BlacklistFilter(TokenBlacklist blacklist, ObjectMapper objectMapper) {
         this.blacklist = blacklist;
-        this.decoder = decoder;
         this.objectMapper = objectMapper;
     }
 
@@ -41,31 +44,26 @@ public class BlacklistFilter extends OncePerRequestFilter {
                                     FilterChain chain)
             throws ServletException, IOException {
 
-        String auth = req.getHeader("Authorization");
-        if (Objects.nonNull(auth) && auth.startsWith("Bearer ")) {
-            String token = auth.substring(7);
-            try {
-                Jwt jwt = decoder.decode(token);
-                String jti = jwt.getId();
-                if (Objects.nonNull(jti) && blacklist.isInvalid(jti)) {
-                    logger.warn("Invalidated token attempt detected: jti={}", jti);
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth instanceof JwtAuthenticationToken jwtAuth) {
+            String jti = jwtAuth.getToken().getId();
+            if (Objects.nonNull(jti) && blacklist.isInvalid(jti)) {
+                logger.warn("Invalidated token attempt detected: jti={}", jti);
+                SecurityContextHolder.clearContext();
 
-                    res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                    res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                res.setContentType(MediaType.APPLICATION_JSON_VALUE);
 
-                    ErrorResponse errorResponse = new ErrorResponse(
-                            HttpServletResponse.SC_UNAUTHORIZED,
-                            "Unauthorized",
-                            "JWT token has been invalidated",
-                            LocalDateTime.now()
-                    );
-                    errorResponse.setDetails(List.of("jti=" + jti));
+                ErrorResponse errorResponse = new ErrorResponse(
+                        HttpServletResponse.SC_UNAUTHORIZED,
+                        "Unauthorized",
+                        "JWT token has been invalidated",
+                        LocalDateTime.now()
+                );
+                errorResponse.setDetails(List.of("jti=" + jti));
 
-                    res.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-                    return;
-                }
-            } catch (JwtException e) {
-                logger.warn("JWT decoding failed: {}", e.getMessage());
+                res.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+                return;
             }
         }
         chain.doFilter(req, res);
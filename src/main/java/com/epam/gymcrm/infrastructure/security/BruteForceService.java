@@ -1,44 +1,150 @@
 package com.epam.gymcrm.infrastructure.security;
 
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.Clock;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+
+/**
+ * Locks out a username after too many failed logins within a sliding window, and the client
+ * address after a larger number of failures across any usernames. The address is the servlet
+ * remote address; behind a proxy it comes from {@code server.forward-headers-strategy}.
+ */
 @Service
 public class BruteForceService {
-    public record State(int fails, long blockedUntilMs) {}
-    private final ConcurrentHashMap<String, State> map = new ConcurrentHashMap<>();
+
+    private static final Logger logger = LoggerFactory.getLogger(BruteForceService.class);
+
+    private static final String USER_KEY = "user:";
+    private static final String IP_KEY = "ip:";
+
+    private final LoginAttemptStore store;
+    private final Clock clock;
     private final int max;
+    private final int ipMax;
     private final long blockMs;
+    private final long windowMs;
+    private final ScheduledExecutorService sweeper;
 
+    @Autowired
     public BruteForceService(
+            LoginAttemptStore store,
             @Value("${security.bruteforce.max-attempts}") int maxAttempts,
-            @Value("${security.bruteforce.block-minutes}") double blockMinutes) {
+            @Value("${security.bruteforce.block-minutes}") double blockMinutes,
+            @Value("${security.bruteforce.ip-max-attempts:20}") int ipMaxAttempts,
+            @Value("${security.bruteforce.window-minutes:15}") double windowMinutes,
+            @Value("${security.bruteforce.sweep-seconds:60}") long sweepSeconds) {
+        this(store, maxAttempts, blockMinutes, ipMaxAttempts, windowMinutes, sweepSeconds, Clock.systemUTC());
+    }
+
+    BruteForceService(LoginAttemptStore store, int maxAttempts, double blockMinutes, int ipMaxAttempts,
+                      double windowMinutes, long sweepSeconds, Clock clock) {
+        this.store = store;
+        this.clock = clock;
         this.max = maxAttempts;
+        this.ipMax = ipMaxAttempts;
         this.blockMs = (long)(blockMinutes * 60_000);
+        this.windowMs = Math.max(1, (long)(windowMinutes * 60_000));
+        this.sweeper = newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "bruteforce-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepSeconds, sweepSeconds, TimeUnit.SECONDS);
     }
 
     public boolean isBlocked(String u) {
-        State s = map.get(u);
-        return Objects.nonNull(s) && s.blockedUntilMs() > System.currentTimeMillis();
+        return retryAfterSeconds(u) > 0;
     }
 
     public long retryAfterSeconds(String u) {
-        State s = map.get(u);
-        if (Objects.isNull(s)) return 0;
-        long diff = s.blockedUntilMs() - System.currentTimeMillis();
-        return diff > 0 ? Math.max(1, diff / 1000) : 0;
+        long now = clock.millis();
+        return secondsUntil(Math.max(blockedUntil(USER_KEY + u, now), addressBlockedUntil(now)), now);
+    }
+
+    // For names that cannot exist there is no account to protect, only the address is checked
+    public boolean isAddressBlocked() {
+        return addressRetryAfterSeconds() > 0;
+    }
+
+    public long addressRetryAfterSeconds() {
+        long now = clock.millis();
+        return secondsUntil(addressBlockedUntil(now), now);
     }
 
     public void registerFailure(String u) {
-        map.compute(u, (k, p) -> {
-            int f = (Objects.isNull(p) ? 1 : p.fails() + 1);
-            long until = (f >= max) ? System.currentTimeMillis() + blockMs : 0L;
-            return new State(f, until);
-        });
+        long now = clock.millis();
+        if (store.update(USER_KEY + u, p -> fail(p, now, max)).blockedUntilMs() > now) {
+            logger.debug("Username locked out. username={}", u);
+        }
+        registerAddressFailure(now);
+    }
+
+    public void registerAddressFailure() {
+        registerAddressFailure(clock.millis());
+    }
+
+    // The address keeps its count, one valid account must not clear failures on others
+    public void registerSuccess(String u) { store.remove(USER_KEY + u); }
+
+    void sweep() {
+        try {
+            int purged = store.purgeExpired(clock.millis());
+            logger.debug("Login attempts swept. purged={}", purged);
+        } catch (RuntimeException e) {
+            logger.warn("Login attempts sweep failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdown();
+    }
+
+    private void registerAddressFailure(long now) {
+        String ip = clientIp();
+        if (Objects.nonNull(ip) && store.update(IP_KEY + ip, p -> fail(p, now, ipMax)).blockedUntilMs() > now) {
+            logger.debug("Client address locked out. ip={}", ip);
+        }
+    }
+
+    private long addressBlockedUntil(long now) {
+        String ip = clientIp();
+        return Objects.nonNull(ip) ? blockedUntil(IP_KEY + ip, now) : 0L;
     }
 
-    public void registerSuccess(String u) { map.remove(u); }
+    private static long secondsUntil(long until, long now) {
+        long diff = until - now;
+        return diff > 0 ? Math.max(1, diff / 1000) : 0;
+    }
+
+    private long blockedUntil(String key, long now) {
+        LoginAttempts a = store.get(key);
+        return Objects.nonNull(a) && a.blockedAt(now) ? a.blockedUntilMs() : 0L;
+    }
+
+    private LoginAttempts fail(LoginAttempts prior, long now, int maxAttempts) {
+        LoginAttempts base = Objects.isNull(prior) || prior.expiresAtMs() <= now ? LoginAttempts.NONE : prior;
+        return base.withFailure(now, windowMs, maxAttempts, blockMs);
+    }
+
+    private static String clientIp() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attrs) {
+            HttpServletRequest request = attrs.getRequest();
+            return request.getRemoteAddr();
+        }
+        return null;
+    }
 }
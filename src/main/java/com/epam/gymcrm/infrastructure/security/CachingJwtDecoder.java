@@ -0,0 +1,31 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.util.Objects;
+
+/**
+ * Returns the verified Jwt for a token seen before instead of parsing it and checking the
+ * HS256 signature again. Only tokens that passed the delegate's validation are cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final VerifiedJwtCache cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, VerifiedJwtCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        Jwt cached = cache.get(token);
+        if (Objects.nonNull(cached)) return cached;
+        Jwt jwt = delegate.decode(token);
+        cache.put(jwt);
+        return jwt;
+    }
+}
@@ -0,0 +1,73 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * Random passwords from one shared {@link SecureRandom}. Creating a SecureRandom per call
+ * pays for seeding every time; the shared instance is seeded once and is thread-safe.
+ * Each password takes its bytes in one call and maps them without modulo bias.
+ * DRBG rather than the platform default: NativePRNG reads /dev/urandom inside a monitor,
+ * which pins the carrier when called from a virtual thread.
+ */
+@Component
+public class CredentialGenerator {
+
+    // Printable ASCII without space, as generated before the alphabet became configurable
+    static final String DEFAULT_ALPHABET = printableAscii();
+
+    private final SecureRandom random = drbg();
+    private final int length;
+    private final char[] alphabet;
+    // Largest multiple of the alphabet size that fits in a byte, higher bytes are redrawn
+    private final int acceptBelow;
+
+    public CredentialGenerator(@Value("${security.credentials.password-length:10}") int length,
+                               @Value("${security.credentials.password-alphabet:}") String alphabet) {
+        String chars = alphabet.isEmpty() ? DEFAULT_ALPHABET : alphabet;
+        if (length < 1) {
+            throw new IllegalArgumentException("Password length must be positive: " + length);
+        }
+        if (chars.length() < 2 || chars.length() > 256 || chars.chars().distinct().count() != chars.length()) {
+            throw new IllegalArgumentException("Password alphabet must have 2..256 distinct characters");
+        }
+        this.length = length;
+        this.alphabet = chars.toCharArray();
+        this.acceptBelow = 256 - 256 % this.alphabet.length;
+    }
+
+    public String password() {
+        char[] out = new char[length];
+        byte[] bytes = new byte[length + length / 2];
+        int filled = 0;
+        while (filled < length) {
+            random.nextBytes(bytes);
+            for (int i = 0; i < bytes.length && filled < length; i++) {
+                int b = bytes[i] & 0xff;
+                if (b < acceptBelow) {
+                    out[filled++] = alphabet[b % alphabet.length];
+                }
+            }
+        }
+        return new String(out);
+    }
+
+    private static SecureRandom drbg() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("DRBG SecureRandom is not available", e);
+        }
+    }
+
+    private static String printableAscii() {
+        StringBuilder sb = new StringBuilder(94);
+        for (char c = 33; c <= 126; c++) {
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -1,7 +1,7 @@
 package com.epam.gymcrm.infrastructure.security;
 
-import com.epam.gymcrm.db.entity.UserEntity;
 import com.epam.gymcrm.db.repository.UserRepository;
+import com.epam.gymcrm.db.repository.projection.UserCredentialsView;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,13 +22,13 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        UserEntity u = users.findByUsername(username)
+        UserCredentialsView u = users.findCredentialsByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
         return new User(
-                u.getUsername(),
-                u.getPassword(),
-                u.getActive(),
+                u.username(),
+                u.password(),
+                u.active(),
                 true, true, true,
                 List.of(new SimpleGrantedAuthority("ROLE_USER")) // TODO: can be real roles
         );
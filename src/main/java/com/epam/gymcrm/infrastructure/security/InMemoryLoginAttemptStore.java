@@ -0,0 +1,57 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Per-JVM store with a hard cap on entries. When full, the least recently touched keys are
+ * dropped first, so a stuffing run over random usernames recycles its own entries instead of
+ * growing the heap. Entry count, capacity and evictions are exported as metrics.
+ */
+@Component
+@ConditionalOnProperty(name = "security.bruteforce.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    static final String METRIC_NAME = "login_attempts";
+
+    private final SegmentedLruCache<String, LoginAttempts> cache;
+
+    public InMemoryLoginAttemptStore(MeterRegistry registry,
+                                     @Value("${security.bruteforce.memory.max-entries:100000}") int maxEntries) {
+        // Usernames nobody tried recently go first; each drop shows up in the evicted counter
+        Counter evicted = registry.counter(METRIC_NAME + "_evicted_total");
+        this.cache = new SegmentedLruCache<>(maxEntries, evicted::increment);
+        Gauge.builder(METRIC_NAME + "_entries", this, InMemoryLoginAttemptStore::size).register(registry);
+        Gauge.builder(METRIC_NAME + "_capacity", cache::capacity).register(registry);
+    }
+
+    @Override
+    public LoginAttempts get(String key) {
+        return cache.get(key);
+    }
+
+    @Override
+    public LoginAttempts update(String key, UnaryOperator<LoginAttempts> change) {
+        return cache.update(key, change);
+    }
+
+    @Override
+    public void remove(String key) {
+        cache.remove(key);
+    }
+
+    @Override
+    public int purgeExpired(long nowMs) {
+        return cache.removeIf(a -> a.expiresAtMs() <= nowMs);
+    }
+
+    int size() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,54 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Per-JVM store, enough for a single instance.
+ */
+@Component
+@ConditionalOnProperty(name = "security.blacklist.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenBlacklistStore implements TokenBlacklistStore {
+
+    private final Map<String, Long> store = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(String jti, Instant expiresAt) {
+        store.put(jti, expiresAt.toEpochMilli());
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        Long exp = store.get(jti);
+        if (Objects.isNull(exp)) return false;
+        if (exp > System.currentTimeMillis()) return true;
+        store.remove(jti, exp);
+        return false;
+    }
+
+    @Override
+    public void forEachActive(Consumer<String> action) {
+        long now = System.currentTimeMillis();
+        store.forEach((jti, exp) -> {
+            if (exp > now) action.accept(jti);
+        });
+    }
+
+    @Override
+    public int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = store.size();
+        store.entrySet().removeIf(e -> e.getValue() < now);
+        return before - store.size();
+    }
+
+    int size() {
+        return store.size();
+    }
+}
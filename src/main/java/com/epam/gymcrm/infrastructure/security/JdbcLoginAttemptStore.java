@@ -0,0 +1,75 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Shared store on the login_attempts table (db/security/login-attempts.sql), so a lockout
+ * triggered through one node holds on all of them. Updates lock the row, concurrent failures
+ * for the same key from different nodes are counted one after the other.
+ */
+@Component
+@ConditionalOnProperty(name = "security.bruteforce.store", havingValue = "jdbc")
+public class JdbcLoginAttemptStore implements LoginAttemptStore {
+
+    private static final String COLUMNS =
+            "window_start, current_count, previous_count, blocked_until, expires_at";
+    private static final String SELECT =
+            "SELECT " + COLUMNS + " FROM login_attempts WHERE attempt_key = ?";
+    private static final String INSERT_EMPTY =
+            "INSERT INTO login_attempts (attempt_key, " + COLUMNS + ") VALUES (?, 0, 0, 0, 0, 0) ON CONFLICT DO NOTHING";
+    private static final String UPDATE =
+            "UPDATE login_attempts SET window_start = ?, current_count = ?, previous_count = ?, "
+                    + "blocked_until = ?, expires_at = ? WHERE attempt_key = ?";
+    private static final String DELETE =
+            "DELETE FROM login_attempts WHERE attempt_key = ?";
+    private static final String PURGE =
+            "DELETE FROM login_attempts WHERE expires_at <= ?";
+
+    private static final RowMapper<LoginAttempts> MAPPER = (rs, i) -> new LoginAttempts(
+            rs.getLong(1), rs.getInt(2), rs.getInt(3), rs.getLong(4), rs.getLong(5));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcLoginAttemptStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public LoginAttempts get(String key) {
+        List<LoginAttempts> rows = jdbcTemplate.query(SELECT, MAPPER, key);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    @Override
+    public LoginAttempts update(String key, UnaryOperator<LoginAttempts> change) {
+        return transactionTemplate.execute(status -> {
+            // Make sure there is a row to lock, a new key starts from zero counts
+            jdbcTemplate.update(INSERT_EMPTY, key);
+            LoginAttempts current = jdbcTemplate.queryForObject(SELECT + " FOR UPDATE", MAPPER, key);
+            LoginAttempts next = change.apply(current);
+            jdbcTemplate.update(UPDATE, next.windowStartMs(), next.current(), next.previous(),
+                    next.blockedUntilMs(), next.expiresAtMs(), key);
+            return next;
+        });
+    }
+
+    @Override
+    public void remove(String key) {
+        jdbcTemplate.update(DELETE, key);
+    }
+
+    @Override
+    public int purgeExpired(long nowMs) {
+        return jdbcTemplate.update(PURGE, nowMs);
+    }
+}
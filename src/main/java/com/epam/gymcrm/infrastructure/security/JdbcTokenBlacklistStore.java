@@ -0,0 +1,104 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Shared store on the revoked_tokens table (db/blacklist/revoked-tokens.sql), so a logout on
+ * one node is seen by all of them. Lookups are cached locally: revocations until the token
+ * expires, "not revoked" answers for {@code security.blacklist.jdbc.negative-ttl-seconds}.
+ * The cache is a {@link SegmentedLruCache}, so a full cache drops its coldest
+ * entries rather than sending every lookup back to the database at once.
+ */
+@Component
+@ConditionalOnProperty(name = "security.blacklist.store", havingValue = "jdbc")
+public class JdbcTokenBlacklistStore implements TokenBlacklistStore {
+
+    private record Cached(boolean revoked, long validUntilMs) {}
+
+    private static final String INSERT =
+            "INSERT INTO revoked_tokens (jti, expires_at) VALUES (?, ?) ON CONFLICT DO NOTHING";
+    private static final String EXPIRES_AT =
+            "SELECT expires_at FROM revoked_tokens WHERE jti = ?";
+    private static final String ACTIVE =
+            "SELECT jti FROM revoked_tokens WHERE expires_at > ?";
+    private static final String REVOKED_SINCE =
+            "SELECT jti, revoked_at FROM revoked_tokens WHERE revoked_at >= ? AND expires_at > ?";
+    private static final String PURGE =
+            "DELETE FROM revoked_tokens WHERE expires_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SegmentedLruCache<String, Cached> cache;
+    private final long negativeTtlMillis;
+
+    public JdbcTokenBlacklistStore(JdbcTemplate jdbcTemplate,
+                                   @Value("${security.blacklist.jdbc.negative-ttl-seconds:5}") long negativeTtlSeconds,
+                                   @Value("${security.blacklist.jdbc.cache-max-entries:10000}") int cacheMaxEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.negativeTtlMillis = negativeTtlSeconds * 1000;
+        this.cache = new SegmentedLruCache<>(cacheMaxEntries);
+    }
+
+    @Override
+    public void revoke(String jti, Instant expiresAt) {
+        jdbcTemplate.update(INSERT, jti, utc(expiresAt));
+        cache.put(jti, new Cached(true, expiresAt.toEpochMilli()));
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        long now = System.currentTimeMillis();
+        Cached cached = cache.get(jti);
+        if (Objects.nonNull(cached) && cached.validUntilMs() > now) {
+            return cached.revoked();
+        }
+
+        List<OffsetDateTime> expiresAt = jdbcTemplate.queryForList(EXPIRES_AT, OffsetDateTime.class, jti);
+        long expiresAtMs = expiresAt.isEmpty() ? 0 : expiresAt.get(0).toInstant().toEpochMilli();
+        boolean revoked = expiresAtMs > now;
+        cache.put(jti, revoked ? new Cached(true, expiresAtMs) : new Cached(false, now + negativeTtlMillis));
+        return revoked;
+    }
+
+    @Override
+    public void forEachActive(Consumer<String> action) {
+        jdbcTemplate.query(ACTIVE, rs -> {
+            action.accept(rs.getString(1));
+        }, utc(Instant.now()));
+    }
+
+    @Override
+    public Instant forEachRevokedSince(Instant since, Consumer<String> action) {
+        Instant[] watermark = {since};
+        jdbcTemplate.query(REVOKED_SINCE, rs -> {
+            action.accept(rs.getString(1));
+            Instant revokedAt = rs.getObject(2, OffsetDateTime.class).toInstant();
+            if (revokedAt.isAfter(watermark[0])) watermark[0] = revokedAt;
+        }, utc(since), utc(Instant.now()));
+        return watermark[0];
+    }
+
+    @Override
+    public int purgeExpired() {
+        long now = System.currentTimeMillis();
+        cache.removeIf(cached -> cached.validUntilMs() <= now);
+        return jdbcTemplate.update(PURGE, utc(Instant.ofEpochMilli(now)));
+    }
+
+    int cachedEntries() {
+        return cache.size();
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,25 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Storage behind {@link BruteForceService}. Selected with {@code security.bruteforce.store}
+ * ({@code memory} or {@code jdbc}); time and counting rules stay in the service.
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * Current state of the key, or {@code null} when nothing is recorded.
+     */
+    LoginAttempts get(String key);
+
+    /**
+     * Atomically replaces the key's state with {@code change} applied to it and returns the result.
+     * {@code change} may be called with {@code null} or {@link LoginAttempts#NONE} for a new key.
+     */
+    LoginAttempts update(String key, UnaryOperator<LoginAttempts> change);
+
+    void remove(String key);
+
+    int purgeExpired(long nowMs);
+}
@@ -0,0 +1,37 @@
+package com.epam.gymcrm.infrastructure.security;
+
+/**
+ * Failed logins for one key as a sliding-window counter: failures in the current fixed window
+ * plus the previous one, weighted by how much of it still overlaps the sliding window. Constant
+ * size per key, unlike a log of timestamps.
+ */
+public record LoginAttempts(long windowStartMs, int current, int previous, long blockedUntilMs, long expiresAtMs) {
+
+    static final LoginAttempts NONE = new LoginAttempts(0, 0, 0, 0, 0);
+
+    boolean blockedAt(long nowMs) {
+        return blockedUntilMs > nowMs;
+    }
+
+    LoginAttempts withFailure(long nowMs, long windowMs, int maxAttempts, long blockMs) {
+        long start = nowMs - nowMs % windowMs;
+        int cur = 1;
+        int prev = 0;
+        if (windowStartMs == start) {
+            cur = current + 1;
+            prev = previous;
+        } else if (windowStartMs == start - windowMs) {
+            prev = current;
+        }
+        double overlap = 1.0 - (double) (nowMs - start) / windowMs;
+        double estimate = prev * overlap + cur;
+
+        long until = blockedAt(nowMs) ? blockedUntilMs : 0L;
+        if (estimate >= maxAttempts && until == 0L) {
+            until = nowMs + blockMs;
+        }
+        // Kept while the block lasts or the counts can still matter for the sliding window
+        long expires = Math.max(until, start + 2 * windowMs);
+        return new LoginAttempts(start, cur, prev, until, expires);
+    }
+}
@@ -0,0 +1,169 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import com.epam.gymcrm.domain.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs BCrypt on a dedicated, bounded pool so hashing CPU stays capped no matter how many
+ * request threads call in. When the queue is full callers get a 429 instead of piling up.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private static final String METRIC_NAME = "password_hashing";
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+    private final int strength;
+    private final long timeoutMillis;
+    private volatile String dummyHash;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry registry,
+                          @Value("${security.password.bcrypt-strength:10}") int strength,
+                          @Value("${security.password.hashing.threads:0}") int threads,
+                          @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+                          @Value("${security.password.hashing.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+        this.timeoutMillis = timeoutMillis;
+
+        // 0 means one thread per core, bcrypt is pure CPU work
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+        threadFactory.setDaemon(true);
+        this.pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(registry, pool, METRIC_NAME);
+
+        this.encodeTimer = registry.timer(METRIC_NAME + "_latency", "operation", "encode");
+        this.matchesTimer = registry.timer(METRIC_NAME + "_latency", "operation", "matches");
+        this.rejectedCounter = registry.counter(METRIC_NAME + "_rejected_total");
+    }
+
+    public String encode(String rawPassword) {
+        return run(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Encodes on the hashing pool without waiting. A saturated pool yields a failed future.
+     */
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        long start = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), executor)
+                    .whenComplete((hash, error) -> encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(rejected());
+        }
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Spends the same work as {@link #matches} for a login with no stored hash, so unknown
+     * usernames cannot be told apart from wrong passwords by response time.
+     */
+    public void matchesNothing(String rawPassword) {
+        String hash = dummyHash;
+        if (Objects.isNull(hash)) {
+            hash = encode(UUID.randomUUID().toString());
+            dummyHash = hash;
+        }
+        matches(rawPassword, hash);
+    }
+
+    /**
+     * True when the stored hash was produced with a different BCrypt cost than the configured one.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        int cost = cost(encodedPassword);
+        return cost > 0 && cost != strength;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // Modular crypt format: $2a$10$...
+    static int cost(String encodedPassword) {
+        if (Objects.isNull(encodedPassword) || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private TooManyRequestsException rejected() {
+        rejectedCounter.increment();
+        logger.warn("Password hashing rejected: pool saturated. queued={}", pool.getQueue().size());
+        return new TooManyRequestsException("Server is busy, please retry shortly.", RETRY_AFTER_SECONDS);
+    }
+
+    private <T> T run(Timer timer, Callable<T> task) {
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw rejected();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            logger.warn("Password hashing timed out. timeoutMs={}", timeoutMillis);
+            throw new TooManyRequestsException("Server is busy, please retry shortly.", RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Bloom filter over a set of strings held elsewhere: loaded in full by {@link #rebuild}, topped up
+ * by {@link #refresh} with entries recorded since the previous call, and fed directly through
+ * {@link #put} for writes made on this node. Until the first rebuild every value might be
+ * contained. Callers own the scheduling and the error handling.
+ */
+final class RebuildableBloomFilter {
+
+    /**
+     * Where entries come from. {@code forEachSince} feeds entries recorded at or after the given
+     * instant and returns the newest recording time it saw, or the instant it was given.
+     */
+    record Source(Consumer<Consumer<String>> forEach,
+                  BiFunction<Instant, Consumer<String>, Instant> forEachSince) {}
+
+    // Covers writes whose transaction commits after a newer one was already read
+    static final Duration REFRESH_OVERLAP = Duration.ofSeconds(30);
+
+    private final Source source;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    // Set while a rebuild is loading, so values put in that window reach the new filter too
+    private volatile BloomFilter pending;
+    private volatile Instant watermark = Instant.now();
+    private volatile boolean warm;
+
+    RebuildableBloomFilter(Source source, long expectedInsertions, double falsePositiveRate) {
+        this.source = source;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    boolean mightContain(String value) {
+        return !warm || filter.mightContain(value);
+    }
+
+    void put(String value) {
+        BloomFilter current = filter;
+        current.put(value);
+        BloomFilter next = pending;
+        if (Objects.nonNull(next)) next.put(value);
+        // A rebuild may have swapped the filter in between
+        BloomFilter latest = filter;
+        if (latest != current) latest.put(value);
+    }
+
+    void refresh() {
+        Instant since = watermark;
+        BloomFilter current = filter;
+        Instant latest = source.forEachSince().apply(since.minus(REFRESH_OVERLAP), current::put);
+        if (Objects.nonNull(latest) && latest.isAfter(since)) watermark = latest;
+    }
+
+    void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+        pending = next;
+        try {
+            source.forEach().accept(next::put);
+            filter = next;
+            warm = true;
+        } finally {
+            pending = null;
+        }
+    }
+
+    long bitSize() {
+        return filter.bitSize();
+    }
+
+    int hashCount() {
+        return filter.hashCount();
+    }
+}
@@ -0,0 +1,147 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded LRU map split over segments with their own lock, so concurrent callers rarely wait
+ * on each other. Each segment is an access-ordered LinkedHashMap that drops its least recently
+ * used entry once it holds more than its share of {@code maxEntries}.
+ */
+final class SegmentedLruCache<K, V> {
+
+    private static final int SEGMENTS = 16;
+
+    private final List<Segment> segments = new ArrayList<>(SEGMENTS);
+    private final int perSegment;
+    private final Runnable onEviction;
+
+    SegmentedLruCache(int maxEntries) {
+        this(maxEntries, () -> {});
+    }
+
+    /**
+     * @param onEviction runs under the segment lock each time a full segment drops an entry
+     */
+    SegmentedLruCache(int maxEntries, Runnable onEviction) {
+        this.perSegment = Math.max(1, (maxEntries + SEGMENTS - 1) / SEGMENTS);
+        this.onEviction = onEviction;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments.add(new Segment());
+        }
+    }
+
+    V get(K key) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            return segment.get(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    void put(K key, V value) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.put(key, value);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    // Read and write under one lock, the change sees null for a missing key
+    V update(K key, UnaryOperator<V> change) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            V next = change.apply(segment.get(key));
+            segment.put(key, next);
+            return next;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    void remove(K key) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    // Only if the key still maps to this value, another thread may have replaced it
+    void remove(K key, V value) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.remove(key, value);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    // Full scan, one segment locked at a time
+    int removeIf(Predicate<? super V> filter) {
+        int removed = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                int before = segment.size();
+                segment.values().removeIf(filter);
+                removed += before - segment.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    int capacity() {
+        return perSegment * SEGMENTS;
+    }
+
+    private Segment segmentFor(K key) {
+        int h = key.hashCode();
+        return segments.get((h ^ (h >>> 16)) & (SEGMENTS - 1));
+    }
+
+    // Access-ordered, so even a get() reorders the map and needs the segment lock
+    private final class Segment extends LinkedHashMap<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Segment() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() <= perSegment) return false;
+            onEviction.run();
+            return true;
+        }
+    }
+}
@@ -1,51 +1,94 @@
 package com.epam.gymcrm.infrastructure.security;
 
 import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
 
+/**
+ * Revoked JWT ids. A Bloom filter answers the common case (token not revoked) without touching
+ * the {@link TokenBlacklistStore}; only possible hits go to the store. The filter is rebuilt from
+ * the store on every sweep, and shared stores are polled for revocations made on other nodes.
+ */
 @Service
 public class TokenBlacklist {
 
-    private final Map<String, Long> store = new ConcurrentHashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(TokenBlacklist.class);
+
+    private final TokenBlacklistStore store;
+    private final VerifiedJwtCache jwtCache;
+    // Until the first load every lookup goes to the store
+    private final RebuildableBloomFilter filter;
     private final ScheduledExecutorService sweeper;
 
-    public TokenBlacklist() {
+    public TokenBlacklist(TokenBlacklistStore store,
+                          VerifiedJwtCache jwtCache,
+                          @Value("${security.blacklist.sweep-seconds:60}") long sweepSeconds,
+                          @Value("${security.blacklist.refresh-seconds:5}") long refreshSeconds,
+                          @Value("${security.blacklist.bloom.expected-insertions:100000}") long expectedInsertions,
+                          @Value("${security.blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.store = store;
+        this.jwtCache = jwtCache;
+        this.filter = new RebuildableBloomFilter(
+                new RebuildableBloomFilter.Source(store::forEachActive, store::forEachRevokedSince),
+                expectedInsertions, falsePositiveRate);
         this.sweeper = newSingleThreadScheduledExecutor(r -> {
             Thread t = new Thread(r, "blacklist-sweeper");
             t.setDaemon(true);
             return t;
         });
-        sweeper.scheduleAtFixedRate(this::sweep, 1, 60, TimeUnit.SECONDS);
+        sweeper.scheduleAtFixedRate(this::sweep, sweepSeconds, sweepSeconds, TimeUnit.SECONDS);
+        sweeper.scheduleWithFixedDelay(this::refresh, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        filter.rebuild();
+        logger.info("Token blacklist warmed up. store={}", store.getClass().getSimpleName());
     }
 
     public void invalidate(String jti, Instant expiresAt) {
-        store.put(jti, expiresAt.toEpochMilli());
+        store.revoke(jti, expiresAt);
+        filter.put(jti);
+        // Memory only: a revoked token decoded again is still rejected by isInvalid
+        jwtCache.evict(jti);
     }
 
     public boolean isInvalid(String jti) {
-        Long exp = store.get(jti);
-        if (Objects.isNull(exp)) return false;
-        if (exp > System.currentTimeMillis()) return true;
-        store.remove(jti, exp);
-        return false;
+        if (!filter.mightContain(jti)) return false;
+        return store.isRevoked(jti);
+    }
+
+    void sweep() {
+        try {
+            int purged = store.purgeExpired();
+            // Expired ids cannot be removed from a Bloom filter, so it is replaced with a fresh one
+            filter.rebuild();
+            logger.debug("Token blacklist swept. purged={}", purged);
+        } catch (RuntimeException e) {
+            logger.warn("Token blacklist sweep failed: {}", e.getMessage());
+        }
     }
 
-    private void sweep() {
-        long now = System.currentTimeMillis();
-        store.entrySet().removeIf(e -> e.getValue() < now);
+    void refresh() {
+        try {
+            filter.refresh();
+        } catch (RuntimeException e) {
+            logger.warn("Token blacklist refresh failed: {}", e.getMessage());
+        }
     }
 
     @PreDestroy
     public void shutdown() {
         sweeper.shutdown();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Storage behind {@link TokenBlacklist}. Selected with {@code security.blacklist.store}
+ * ({@code memory} or {@code jdbc}); other backends only need to implement this interface.
+ */
+public interface TokenBlacklistStore {
+
+    void revoke(String jti, Instant expiresAt);
+
+    /**
+     * Authoritative check, only reached when the Bloom filter cannot rule the token out.
+     */
+    boolean isRevoked(String jti);
+
+    /**
+     * Feeds every revocation that has not expired yet, used to rebuild the Bloom filter.
+     */
+    void forEachActive(Consumer<String> action);
+
+    /**
+     * Feeds revocations recorded at or after {@code since} and returns the watermark for the
+     * next call. Only stores shared between nodes need this, to learn about remote logouts.
+     */
+    default Instant forEachRevokedSince(Instant since, Consumer<String> action) {
+        return since;
+    }
+
+    int purgeExpired();
+}
@@ -0,0 +1,108 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+
+/**
+ * Bloom filter over every username, so logins for names that do not exist are turned away
+ * without a database lookup. Names registered here are added directly; names registered on
+ * other nodes are picked up from users.created_at, and the filter is rebuilt periodically to
+ * drop deleted users. Until the first load every name is reported as possibly existing.
+ */
+@Component
+public class UsernameFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UsernameFilter.class);
+
+    private static final String ALL = "SELECT username FROM users";
+    private static final String CREATED_SINCE =
+            "SELECT username, created_at FROM users WHERE created_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RebuildableBloomFilter filter;
+    private final ScheduledExecutorService refresher;
+
+    public UsernameFilter(JdbcTemplate jdbcTemplate,
+                          @Value("${security.username-filter.refresh-seconds:5}") long refreshSeconds,
+                          @Value("${security.username-filter.rebuild-minutes:60}") long rebuildMinutes,
+                          @Value("${security.username-filter.expected-insertions:1000000}") long expectedInsertions,
+                          @Value("${security.username-filter.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.filter = new RebuildableBloomFilter(
+                new RebuildableBloomFilter.Source(this::forEachUsername, this::forEachCreatedSince),
+                expectedInsertions, falsePositiveRate);
+        this.refresher = newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "username-filter");
+            t.setDaemon(true);
+            return t;
+        });
+        refresher.scheduleWithFixedDelay(this::refresh, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+        refresher.scheduleWithFixedDelay(this::rebuildQuietly, rebuildMinutes, rebuildMinutes, TimeUnit.MINUTES);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        filter.rebuild();
+        logger.info("Username filter warmed up. bits={}, hashes={}", filter.bitSize(), filter.hashCount());
+    }
+
+    public boolean mightExist(String username) {
+        return filter.mightContain(username);
+    }
+
+    public void add(String username) {
+        filter.put(username);
+    }
+
+    void refresh() {
+        try {
+            filter.refresh();
+        } catch (RuntimeException e) {
+            logger.warn("Username filter refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            filter.rebuild();
+        } catch (RuntimeException e) {
+            logger.warn("Username filter rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    private void forEachUsername(Consumer<String> action) {
+        jdbcTemplate.query(ALL, rs -> {
+            action.accept(rs.getString(1));
+        });
+    }
+
+    private Instant forEachCreatedSince(Instant since, Consumer<String> action) {
+        Instant[] latest = {since};
+        jdbcTemplate.query(CREATED_SINCE, rs -> {
+            action.accept(rs.getString(1));
+            Instant createdAt = rs.getObject(2, OffsetDateTime.class).toInstant();
+            if (createdAt.isAfter(latest[0])) latest[0] = createdAt;
+        }, OffsetDateTime.ofInstant(since, ZoneOffset.UTC));
+        return latest[0];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdown();
+    }
+}
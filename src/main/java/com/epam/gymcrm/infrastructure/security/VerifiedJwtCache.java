@@ -0,0 +1,91 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Bounded LRU of tokens whose signature and claims were already verified, keyed by a 64-bit
+ * hash of the token string and held in a {@link SegmentedLruCache}. A hit still compares the full
+ * token, and exp/nbf are checked on every read, so a cached Jwt is never returned outside its
+ * validity window.
+ */
+@Component
+public class VerifiedJwtCache {
+
+    static final String METRIC_NAME = "jwt_cache";
+
+    private final SegmentedLruCache<Long, Jwt> cache;
+    private final Clock clock;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter revoked;
+
+    @Autowired
+    public VerifiedJwtCache(MeterRegistry registry,
+                            @Value("${security.jwt.cache.max-entries:10000}") int maxEntries) {
+        this(registry, maxEntries, Clock.systemUTC());
+    }
+
+    VerifiedJwtCache(MeterRegistry registry, int maxEntries, Clock clock) {
+        this.cache = new SegmentedLruCache<>(maxEntries);
+        this.clock = clock;
+        this.hits = registry.counter(METRIC_NAME + "_requests_total", "result", "hit");
+        this.misses = registry.counter(METRIC_NAME + "_requests_total", "result", "miss");
+        this.revoked = registry.counter(METRIC_NAME + "_revoked_total");
+        Gauge.builder(METRIC_NAME + "_size", this, VerifiedJwtCache::size).register(registry);
+        Gauge.builder(METRIC_NAME + "_hit_ratio", this, VerifiedJwtCache::hitRatio).register(registry);
+    }
+
+    public Jwt get(String token) {
+        long key = Hashing.hash64(token);
+        Jwt jwt = cache.get(key);
+        if (Objects.isNull(jwt) || !token.equals(jwt.getTokenValue())) {
+            misses.increment();
+            return null;
+        }
+        if (!isCurrent(jwt)) {
+            cache.remove(key, jwt);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return jwt;
+    }
+
+    public void put(Jwt jwt) {
+        // Tokens without an expiry would stay valid for as long as they are cached
+        if (Objects.isNull(jwt.getExpiresAt()) || !isCurrent(jwt)) return;
+        cache.put(Hashing.hash64(jwt.getTokenValue()), jwt);
+    }
+
+    // Revocations are rare, a scan beats keeping a second index per jti
+    public void evict(String jti) {
+        revoked.increment(cache.removeIf(jwt -> jti.equals(jwt.getId())));
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private boolean isCurrent(Jwt jwt) {
+        Instant now = clock.instant();
+        Instant exp = jwt.getExpiresAt();
+        Instant nbf = jwt.getNotBefore();
+        return (Objects.isNull(exp) || now.isBefore(exp))
+                && (Objects.isNull(nbf) || !now.isBefore(nbf));
+    }
+}
@@ -6,6 +6,8 @@ import java.time.format.DateTimeFormatter;
 public class DateConstants {
     public static final String DEFAULT_DATE_PATTERN = "yyyy-MM-dd";
     public static final DateTimeFormatter DEFAULT_DATE_FORMATTER = DateTimeFormatter.ofPattern(DEFAULT_DATE_PATTERN);
+    public static final String DEFAULT_DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+    public static final DateTimeFormatter DEFAULT_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DEFAULT_DATE_TIME_PATTERN);
 
     private DateConstants() {}
 }
@@ -0,0 +1,8 @@
+-- Trigram index behind trainer/trainee name search (LIKE '%term%' on users.search_name).
+-- Runs after Hibernate DDL on startup; also safe to apply by hand on an existing schema.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS search_name varchar(511)
+    GENERATED ALWAYS AS (lower(first_name || ' ' || last_name)) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_users_search_name_trgm ON users USING gin (search_name gin_trgm_ops);
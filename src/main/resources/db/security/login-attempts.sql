@@ -0,0 +1,11 @@
+-- Failed-login counters shared by all nodes, see JdbcLoginAttemptStore. Times are epoch millis.
+CREATE TABLE IF NOT EXISTS login_attempts (
+    attempt_key    varchar(320) PRIMARY KEY,
+    window_start   bigint  NOT NULL,
+    current_count  integer NOT NULL,
+    previous_count integer NOT NULL,
+    blocked_until  bigint  NOT NULL,
+    expires_at     bigint  NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_login_attempts_expires_at ON login_attempts (expires_at);
@@ -0,0 +1,5 @@
+-- Registration time, polled by UsernameFilter for usernames created on other nodes.
+-- Runs after Hibernate DDL on startup; also safe to apply by hand on an existing schema.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS created_at timestamp with time zone NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_users_created_at ON users (created_at);
@@ -0,0 +1,12 @@
+-- One trainer, one training at a time: rejects overlapping [training_date, +duration) ranges per trainer,
+-- whichever node or request writes them. A zero-length training occupies its start. See TrainingService.
+-- Runs after Hibernate DDL on startup; also safe to apply by hand on an existing schema.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE trainings DROP CONSTRAINT IF EXISTS trainings_no_overlap;
+
+ALTER TABLE trainings ADD CONSTRAINT trainings_no_overlap EXCLUDE USING gist (
+    trainer_id WITH =,
+    tsrange(training_date, training_date + training_duration * interval '1 minute',
+            CASE WHEN training_duration = 0 THEN '[]' ELSE '[)' END) WITH &&
+);
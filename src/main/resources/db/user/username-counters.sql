@@ -0,0 +1,5 @@
+-- Last suffix handed out per username base (first.last), see UsernameSuffixRepositoryImpl.
+CREATE TABLE IF NOT EXISTS username_counters (
+    base        varchar(255) PRIMARY KEY,
+    last_suffix bigint NOT NULL
+);
@@ -0,0 +1,3 @@
+-- Prefix index for seeding username_counters (username LIKE 'base%'), once per new base.
+-- Runs after Hibernate DDL on startup; also safe to apply by hand on an existing schema.
+CREATE INDEX IF NOT EXISTS idx_users_username_prefix ON users (username varchar_pattern_ops);
@@ -2,7 +2,9 @@ package com.epam.gymcrm.api.controller;
 
 import com.epam.gymcrm.api.payload.request.TraineeRegistrationRequest;
 import com.epam.gymcrm.api.payload.request.TraineeTrainerUpdateRequest;
+import com.epam.gymcrm.api.payload.request.TraineeTrainingsFilter;
 import com.epam.gymcrm.api.payload.request.TraineeUpdateRequest;
+import com.epam.gymcrm.api.payload.request.TrainerReassignRequest;
 import com.epam.gymcrm.api.payload.request.UpdateActiveStatusRequest;
 import com.epam.gymcrm.api.payload.response.*;
 import com.epam.gymcrm.domain.exception.BadRequestException;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -23,10 +26,13 @@ import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -38,7 +44,8 @@ class TraineeControllerTest {
     @Mock private TraineeService traineeService;
     @InjectMocks private TraineeController traineeController;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
 
     @BeforeEach
     void setUp() {
@@ -221,6 +228,37 @@ class TraineeControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void reassignTrainer_shouldReturn200AndReassignedCount() throws Exception {
+        when(traineeService.reassignTrainer(any(TrainerReassignRequest.class)))
+                .thenReturn(new TrainerReassignResponse(42));
+
+        mockMvc.perform(put("/api/v1/trainees/trainers/reassign")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                    {
+                                        "fromTrainerUsername": "trainer1",
+                                        "toTrainerUsername": "trainer2"
+                                    }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reassignedTrainees").value(42));
+
+        verify(traineeService).reassignTrainer(new TrainerReassignRequest("trainer1", "trainer2", null));
+    }
+
+    @Test
+    void reassignTrainer_shouldReturn400_whenTrainerMissing() throws Exception {
+        mockMvc.perform(put("/api/v1/trainees/trainers/reassign")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                    { "fromTrainerUsername": "trainer1" }
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(traineeService);
+    }
+
     @Test
     void getTraineeTrainings_shouldReturn200AndTrainingsList() throws Exception {
         TraineeTrainingInfo trainingInfo = new TraineeTrainingInfo(
@@ -245,6 +283,46 @@ class TraineeControllerTest {
         verify(traineeService).getTraineeTrainings(any());
     }
 
+    @Test
+    void getTraineeTrainings_shouldPassCursorAndLimit_andReturnNextCursor() throws Exception {
+        TraineeTrainingsListResponse response = new TraineeTrainingsListResponse(List.of(), "next-page");
+        when(traineeService.getTraineeTrainings(any())).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/trainees/trainings")
+                        .param("username", "ali.veli")
+                        .param("cursor", "abc")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next-page"));
+
+        verify(traineeService).getTraineeTrainings(
+                new TraineeTrainingsFilter("ali.veli", null, null, null, null, "abc", 20));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamTraineeTrainings_shouldWriteNdjsonLines() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<TraineeTrainingInfo> sink = invocation.getArgument(1);
+            sink.accept(new TraineeTrainingInfo("Push Day", "2024-06-20T10:00", "Strength", 60, "Ahmet Yilmaz"));
+            sink.accept(new TraineeTrainingInfo("Leg Day", "2024-06-21T10:00", "Strength", 45, "Ahmet Yilmaz"));
+            return null;
+        }).when(traineeService).streamTraineeTrainings(any(), any());
+
+        String body = mockMvc.perform(get("/api/v1/trainees/trainings")
+                        .param("username", "ali.veli")
+                        .accept("application/x-ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("Push Day", objectMapper.readTree(lines[0]).get("trainingName").asText());
+        assertEquals("Leg Day", objectMapper.readTree(lines[1]).get("trainingName").asText());
+        verify(traineeService, never()).getTraineeTrainings(any());
+    }
+
     @Test
     void getTraineeTrainings_shouldReturn404_whenTraineeNotFound() throws Exception {
         when(traineeService.getTraineeTrainings(any()))
@@ -2,6 +2,10 @@ package com.epam.gymcrm.api.controller;
 
 
 import com.epam.gymcrm.api.payload.request.AddTrainingRequest;
+import com.epam.gymcrm.api.payload.request.TrainingImportFormat;
+import com.epam.gymcrm.api.payload.response.TrainingImportResponse;
+import com.epam.gymcrm.api.payload.response.TrainingImportRowError;
+import com.epam.gymcrm.domain.service.TrainingImportService;
 import com.epam.gymcrm.domain.service.TrainingService;
 import com.epam.gymcrm.domain.exception.GlobalExceptionHandler;
 import com.epam.gymcrm.domain.exception.NotFoundException;
@@ -17,9 +21,14 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +39,9 @@ class TrainingControllerTest {
     @Mock
     private TrainingService trainingService;
 
+    @Mock
+    private TrainingImportService trainingImportService;
+
     @InjectMocks
     private TrainingController trainingController;
 
@@ -111,4 +123,29 @@ class TrainingControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
-}
\ No newline at end of file
+    @Test
+    void importTrainings_shouldReturnSummary_whenCsvUploaded() throws Exception {
+        TrainingImportResponse response = new TrainingImportResponse(2, 1, 1,
+                List.of(new TrainingImportRowError(3, "Trainer not found: ghost")));
+        when(trainingImportService.importTrainings(any(), eq(TrainingImportFormat.CSV))).thenReturn(response);
+
+        mockMvc.perform(post("/api/v1/trainings/import")
+                        .contentType("text/csv")
+                        .content("traineeUsername,trainerUsername,trainingName,trainingDate,trainingDuration\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3));
+    }
+
+    @Test
+    void importTrainings_shouldUseNdjsonFormat_whenNdjsonUploaded() throws Exception {
+        when(trainingImportService.importTrainings(any(), eq(TrainingImportFormat.NDJSON)))
+                .thenReturn(new TrainingImportResponse(0, 0, 0, List.of()));
+
+        mockMvc.perform(post("/api/v1/trainings/import")
+                        .contentType("application/x-ndjson")
+                        .content(""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(0));
+    }
+}
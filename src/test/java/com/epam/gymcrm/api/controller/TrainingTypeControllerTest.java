@@ -7,17 +7,20 @@ import com.epam.gymcrm.domain.exception.GlobalExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -29,11 +32,9 @@ class TrainingTypeControllerTest {
     @Mock
     private TrainingTypeService trainingTypeService;
 
-    @InjectMocks
-    private TrainingTypeController trainingTypeController;
-
     @BeforeEach
     void setUp() {
+        TrainingTypeController trainingTypeController = new TrainingTypeController(trainingTypeService, 300);
         mockMvc = MockMvcBuilders
                 .standaloneSetup(trainingTypeController)
                 .setControllerAdvice(new GlobalExceptionHandler())
@@ -46,16 +47,30 @@ class TrainingTypeControllerTest {
                 new TrainingTypeResponse(1L, "Cardio"),
                 new TrainingTypeResponse(2L, "Strength")
         );
-        TrainingTypeListResponse response = new TrainingTypeListResponse(types);
-
-        when(trainingTypeService.findAllTrainingTypes()).thenReturn(response);
+        when(trainingTypeService.getSnapshot()).thenReturn(snapshot(types));
 
         mockMvc.perform(get("/api/v1/training-types"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
                 .andExpect(jsonPath("$.trainingTypes.length()").value(2))
                 .andExpect(jsonPath("$.trainingTypes[0].name").value("Cardio"))
                 .andExpect(jsonPath("$.trainingTypes[1].id").value(2));
 
-        verify(trainingTypeService).findAllTrainingTypes();
+        verify(trainingTypeService).getSnapshot();
+    }
+
+    @Test
+    void getAllTrainingTypes_shouldReturn304_whenEtagMatches() throws Exception {
+        when(trainingTypeService.getSnapshot()).thenReturn(snapshot(List.of(new TrainingTypeResponse(1L, "Cardio"))));
+
+        mockMvc.perform(get("/api/v1/training-types").header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(content().string(""));
+    }
+
+    private static TrainingTypeService.Snapshot snapshot(List<TrainingTypeResponse> types) {
+        return new TrainingTypeService.Snapshot(new TrainingTypeListResponse(types), "abc123", Map.of(), Map.of());
     }
 }
\ No newline at end of file
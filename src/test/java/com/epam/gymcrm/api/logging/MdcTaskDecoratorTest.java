@@ -0,0 +1,58 @@
+package com.epam.gymcrm.api.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MdcTaskDecoratorTest {
+
+    private final MdcTaskDecorator decorator = new MdcTaskDecorator();
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    void decorate_shouldRunTaskWithSubmittersMdc_onAnotherThread() throws Exception {
+        MDC.put("transactionId", "4bf92f3577b34da6a3ce929d0e0e4736");
+        AtomicReference<String> seen = new AtomicReference<>();
+        Runnable task = decorator.decorate(() -> seen.set(MDC.get("transactionId")));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(task).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(seen.get()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+    }
+
+    @Test
+    void decorate_shouldRestoreWorkersMdc_afterTask() {
+        MDC.put("transactionId", "submitter");
+        Runnable task = decorator.decorate(() -> assertThat(MDC.get("transactionId")).isEqualTo("submitter"));
+        MDC.put("transactionId", "worker");
+
+        task.run();
+
+        assertThat(MDC.get("transactionId")).isEqualTo("worker");
+    }
+
+    @Test
+    void decorate_withoutSubmitterMdc_shouldRunWithEmptyMdc() {
+        Runnable task = decorator.decorate(() -> assertThat(MDC.get("transactionId")).isNull());
+        MDC.put("transactionId", "stale");
+
+        task.run();
+
+        assertThat(MDC.get("transactionId")).isEqualTo("stale");
+    }
+}
@@ -1,18 +1,41 @@
 package com.epam.gymcrm.api.logging;
 
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 class RestLoggingInterceptorTest {
 
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RestLoggingInterceptor.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        logger.detachAppender(appender);
+    }
+
     @Test
     void testPreHandle_and_AfterCompletion_logWithTransactionId() {
-        RestLoggingInterceptor interceptor = new RestLoggingInterceptor();
+        RestLoggingInterceptor interceptor = new RestLoggingInterceptor(1.0);
 
         HttpServletRequest request = mock(HttpServletRequest.class);
         HttpServletResponse response = mock(HttpServletResponse.class);
@@ -30,4 +53,42 @@ class RestLoggingInterceptorTest {
 
         MDC.remove("transactionId");
     }
-}
\ No newline at end of file
+
+    @Test
+    void sampledRequest_shouldLogBothLines() {
+        RestLoggingInterceptor interceptor = new RestLoggingInterceptor(1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/trainers");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertEquals(2, appender.list.size());
+    }
+
+    @Test
+    void unsampledRequest_shouldLogNothing() {
+        RestLoggingInterceptor interceptor = new RestLoggingInterceptor(0.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/trainers");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertEquals(0, appender.list.size());
+    }
+
+    @Test
+    void unsampledFailedRequest_shouldStillLogCompletion() {
+        RestLoggingInterceptor interceptor = new RestLoggingInterceptor(0.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/trainers");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(500);
+
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertEquals(1, appender.list.size());
+        assertEquals("Completed request: status=500, uri=/api/v1/trainers", appender.list.get(0).getFormattedMessage());
+    }
+}
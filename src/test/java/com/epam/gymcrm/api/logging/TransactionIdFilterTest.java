@@ -6,9 +6,13 @@ import jakarta.servlet.ServletResponse;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 class TransactionIdFilterTest {
 
@@ -32,4 +36,62 @@ class TransactionIdFilterTest {
 
         assertThat(MDC.get("transactionId")).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDoFilter_usesTraceIdFromTraceparent_andReturnsItInResponseHeader() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        request.addHeader("X-Request-Id", "ignored-when-traceparent-is-valid");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new TransactionIdFilter().doFilter(request, response, new MockFilterChain());
+
+        assertThat(request.getAttribute("transactionId")).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(response.getHeader("X-Request-Id")).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+    }
+
+    @Test
+    void testDoFilter_usesRequestIdHeader_whenNoTraceparent() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Request-Id", "gateway-7f3a:42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new TransactionIdFilter().doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getHeader("X-Request-Id")).isEqualTo("gateway-7f3a:42");
+    }
+
+    @Test
+    void testDoFilter_generatesId_whenHeadersAreInvalid() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("traceparent", "00-00000000000000000000000000000000-00f067aa0ba902b7-01");
+        request.addHeader("X-Request-Id", "bad id\nwith newline");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        new TransactionIdFilter().doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        assertThat(response.getHeader("X-Request-Id")).matches("[0-9a-f]{32}");
+        assertThat(MDC.get("transactionId")).isNull();
+    }
+
+    @Test
+    void testTraceId_rejectsMalformedTraceparents() {
+        assertThat(TransactionIdFilter.traceId("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01")).isNull();
+        assertThat(TransactionIdFilter.traceId("ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01")).isNull();
+        assertThat(TransactionIdFilter.traceId("00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01")).isNull();
+        assertThat(TransactionIdFilter.traceId("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-extra")).isNull();
+        assertThat(TransactionIdFilter.traceId("4bf92f3577b34da6a3ce929d0e0e4736")).isNull();
+        assertThat(TransactionIdFilter.traceId("01-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-extra"))
+                .isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+    }
+
+    @Test
+    void testIsValidRequestId_limitsLengthAndCharacters() {
+        assertThat(TransactionIdFilter.isValidRequestId("3f2c9a1e-5b7d-4e8f-9a0b-1c2d3e4f5a6b")).isTrue();
+        assertThat(TransactionIdFilter.isValidRequestId("")).isFalse();
+        assertThat(TransactionIdFilter.isValidRequestId("a".repeat(129))).isFalse();
+        assertThat(TransactionIdFilter.isValidRequestId("id\"}{\"level\":\"ERROR")).isFalse();
+    }
+}
@@ -0,0 +1,32 @@
+package com.epam.gymcrm.api.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionIdGeneratorTest {
+
+    @Test
+    void next_shouldReturnUniqueLowercaseHexTraceIds() {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            String id = TransactionIdGenerator.next();
+            assertThat(id).matches("[0-9a-f]{32}");
+            ids.add(id);
+        }
+        assertThat(ids).hasSize(10_000);
+    }
+
+    @Test
+    void next_shouldStartWithCurrentTimeMillis() {
+        long before = System.currentTimeMillis();
+        String id = TransactionIdGenerator.next();
+        long after = System.currentTimeMillis();
+
+        long millis = Long.parseLong(id.substring(0, 12), 16);
+        assertThat(millis).isBetween(before, after);
+    }
+}
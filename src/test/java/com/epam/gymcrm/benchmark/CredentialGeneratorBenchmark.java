@@ -0,0 +1,50 @@
+package com.epam.gymcrm.benchmark;
+
+import com.epam.gymcrm.infrastructure.security.CredentialGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One 10-character password: the former generator (new SecureRandom per call, nextInt per
+ * character) versus CredentialGenerator (shared SecureRandom, one nextBytes per password).
+ * Add {@code -t 8} to see how the shared instance behaves under concurrent registrations.
+ * Run with: {@code java -cp <test classpath> com.epam.gymcrm.benchmark.CredentialGeneratorBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CredentialGeneratorBenchmark {
+
+    private final CredentialGenerator generator = new CredentialGenerator(10, "");
+
+    @Benchmark
+    public String newSecureRandomPerCall() {
+        SecureRandom random = new SecureRandom();
+        StringBuilder sb = new StringBuilder(10);
+        for (int i = 0; i < 10; i++) {
+            int ascii = 33 + random.nextInt(94);
+            sb.append((char) ascii);
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String sharedGenerator() {
+        return generator.password();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(CredentialGeneratorBenchmark.class.getSimpleName())
+                .parent(new CommandLineOptions(args))
+                .build()).run();
+    }
+}
@@ -0,0 +1,115 @@
+package com.epam.gymcrm.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load against a running instance: each client is a virtual thread that sends
+ * the next GET as soon as the previous one returns. Used to compare the application with and
+ * without {@code spring.threads.virtual.enabled} at a given client count; reports throughput,
+ * error count and latency percentiles of the measured phase.
+ * Run with: {@code java -cp <test classpath> com.epam.gymcrm.benchmark.HttpLoadTest
+ * <url> <clients> <seconds> [warmup seconds] [bearer token]}
+ */
+public class HttpLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Usage: HttpLoadTest <url> <clients> <seconds> [warmupSeconds] [token]");
+            System.exit(2);
+        }
+        URI uri = URI.create(args[0]);
+        int clients = Integer.parseInt(args[1]);
+        long seconds = Long.parseLong(args[2]);
+        long warmupSeconds = args.length > 3 ? Long.parseLong(args[3]) : 10;
+        String token = args.length > 4 ? args[4] : null;
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET();
+        if (token != null) builder.header("Authorization", "Bearer " + token);
+        HttpRequest request = builder.build();
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(seconds);
+        AtomicLong errors = new AtomicLong();
+        List<Recorder> recorders = new ArrayList<>(clients);
+
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                Recorder recorder = new Recorder();
+                recorders.add(recorder);
+                pool.execute(() -> run(client, request, recorder, errors, measureFrom, end));
+            }
+        }
+
+        long[] latencies = merge(recorders);
+        Arrays.sort(latencies);
+        System.out.printf("url=%s clients=%d seconds=%d%n", uri, clients, seconds);
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                latencies.length, errors.get(), latencies.length / (double) seconds);
+        System.out.printf("latency ms: p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.90),
+                percentile(latencies, 0.99), percentile(latencies, 1.0));
+    }
+
+    private static void run(HttpClient client, HttpRequest request, Recorder recorder,
+                            AtomicLong errors, long measureFrom, long end) {
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long done = System.nanoTime();
+            if (now < measureFrom) continue;
+            if (ok) recorder.add(done - now);
+            else errors.incrementAndGet();
+        }
+    }
+
+    private static long[] merge(List<Recorder> recorders) {
+        int total = recorders.stream().mapToInt(r -> r.size).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (Recorder r : recorders) {
+            System.arraycopy(r.values, 0, all, offset, r.size);
+            offset += r.size;
+        }
+        return all;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return Double.NaN;
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    // One per client thread, so recording needs no synchronization
+    private static final class Recorder {
+        private long[] values = new long[256];
+        private int size;
+
+        void add(long nanos) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = nanos;
+        }
+    }
+}
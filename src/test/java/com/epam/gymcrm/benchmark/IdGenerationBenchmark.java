@@ -0,0 +1,220 @@
+package com.epam.gymcrm.benchmark;
+
+import jakarta.persistence.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registration (user + trainee) and training insert throughput with IDENTITY ids versus
+ * pooled-lo sequences, using the same Hibernate batching settings as application.yml.
+ * H2 has no network latency, so the gap against PostgreSQL is a lower bound.
+ * Run with: {@code java -cp <test classpath> com.epam.gymcrm.benchmark.IdGenerationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGenerationBenchmark {
+
+    @Param({"IDENTITY", "POOLED_LO"})
+    public String strategy;
+
+    @Param({"1", "100"})
+    public int rowsPerTransaction;
+
+    private SessionFactory sessionFactory;
+    private Long traineeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityUser.class)
+                .addAnnotatedClass(IdentityTrainee.class)
+                .addAnnotatedClass(IdentityTraining.class)
+                .addAnnotatedClass(PooledUser.class)
+                .addAnnotatedClass(PooledTrainee.class)
+                .addAnnotatedClass(PooledTraining.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:ids_" + strategy + rowsPerTransaction + ";DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.jdbc.batch_size", "50")
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("hibernate.id.optimizer.pooled.preferred", "pooled-lo")
+                .buildSessionFactory();
+
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            Object trainee = newTrainee(0);
+            session.persist(trainee);
+            tx.commit();
+            traineeId = trainee instanceof IdentityTrainee t ? t.id : ((PooledTrainee) trainee).id;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void registerTrainees() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            for (int i = 0; i < rowsPerTransaction; i++) {
+                session.persist(newTrainee(i));
+            }
+            tx.commit();
+        }
+    }
+
+    @Benchmark
+    public void insertTrainings() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            boolean identity = "IDENTITY".equals(strategy);
+            Class<?> traineeType = identity ? IdentityTrainee.class : PooledTrainee.class;
+            Object trainee = session.getReference(traineeType, traineeId);
+            for (int i = 0; i < rowsPerTransaction; i++) {
+                if (identity) {
+                    IdentityTraining training = new IdentityTraining();
+                    training.trainee = (IdentityTrainee) trainee;
+                    fill(training, i);
+                    session.persist(training);
+                } else {
+                    PooledTraining training = new PooledTraining();
+                    training.trainee = (PooledTrainee) trainee;
+                    fill(training, i);
+                    session.persist(training);
+                }
+            }
+            tx.commit();
+        }
+    }
+
+    private Object newTrainee(int i) {
+        if ("IDENTITY".equals(strategy)) {
+            IdentityUser user = new IdentityUser();
+            fill(user, i);
+            IdentityTrainee trainee = new IdentityTrainee();
+            trainee.user = user;
+            trainee.address = "New York";
+            return trainee;
+        }
+        PooledUser user = new PooledUser();
+        fill(user, i);
+        PooledTrainee trainee = new PooledTrainee();
+        trainee.user = user;
+        trainee.address = "New York";
+        return trainee;
+    }
+
+    private static void fill(BenchUser user, int i) {
+        user.firstName = "John";
+        user.lastName = "Doe";
+        user.username = "john.doe" + System.nanoTime() + i;
+        user.password = "$2a$10$iN0lUG1/ekAPik1AIA8hmu41akz/3riRyGIbvlxGt58NR7NUVjQce";
+        user.active = true;
+    }
+
+    private static void fill(BenchTraining training, int i) {
+        training.trainingName = "Session " + i;
+        training.trainingDate = LocalDateTime.of(2025, 8, 1, 10, 0).plusHours(i);
+        training.trainingDuration = 60;
+    }
+
+    @MappedSuperclass
+    public abstract static class BenchUser {
+        String firstName;
+        String lastName;
+        @Column(unique = true)
+        String username;
+        String password;
+        Boolean active;
+    }
+
+    @MappedSuperclass
+    public abstract static class BenchTraining {
+        String trainingName;
+        LocalDateTime trainingDate;
+        int trainingDuration;
+    }
+
+    @Entity
+    @Table(name = "identity_users")
+    public static class IdentityUser extends BenchUser {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+    }
+
+    @Entity
+    @Table(name = "identity_trainees")
+    public static class IdentityTrainee {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @OneToOne(cascade = CascadeType.ALL)
+        IdentityUser user;
+        String address;
+    }
+
+    @Entity
+    @Table(name = "identity_trainings")
+    public static class IdentityTraining extends BenchTraining {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @ManyToOne
+        IdentityTrainee trainee;
+    }
+
+    @Entity
+    @Table(name = "pooled_users")
+    public static class PooledUser extends BenchUser {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_users_seq")
+        @SequenceGenerator(name = "pooled_users_seq", sequenceName = "pooled_users_seq", allocationSize = 50)
+        Long id;
+    }
+
+    @Entity
+    @Table(name = "pooled_trainees")
+    public static class PooledTrainee {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_trainees_seq")
+        @SequenceGenerator(name = "pooled_trainees_seq", sequenceName = "pooled_trainees_seq", allocationSize = 50)
+        Long id;
+        @OneToOne(cascade = CascadeType.ALL)
+        PooledUser user;
+        String address;
+    }
+
+    @Entity
+    @Table(name = "pooled_trainings")
+    public static class PooledTraining extends BenchTraining {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_trainings_seq")
+        @SequenceGenerator(name = "pooled_trainings_seq", sequenceName = "pooled_trainings_seq", allocationSize = 50)
+        Long id;
+        @ManyToOne
+        PooledTrainee trainee;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(IdGenerationBenchmark.class.getSimpleName())
+                .parent(new CommandLineOptions(args))
+                .build()).run();
+    }
+}
@@ -0,0 +1,175 @@
+package com.epam.gymcrm.benchmark;
+
+import com.epam.gymcrm.infrastructure.security.BlacklistFilter;
+import com.epam.gymcrm.infrastructure.security.CachingJwtDecoder;
+import com.epam.gymcrm.infrastructure.security.InMemoryTokenBlacklistStore;
+import com.epam.gymcrm.infrastructure.security.TokenBlacklist;
+import com.epam.gymcrm.infrastructure.security.VerifiedJwtCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.*;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of JWT authentication for one valid HS256 bearer token: the former chain
+ * (BlacklistFilter decoding the token, then the resource server decoding it again) versus the
+ * current one (resource server decodes once, BlacklistFilter reads the jti from the security context),
+ * and the current one with verified tokens served from the VerifiedJwtCache.
+ * Run with: {@code java -cp <test classpath> com.epam.gymcrm.benchmark.JwtFilterChainBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class JwtFilterChainBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-0123456789";
+    private static final String ISSUER = "gym-crm";
+    private static final HttpServlet SERVLET = new HttpServlet() {
+    };
+
+    private TokenBlacklist blacklist;
+    private Filter[] previousChain;
+    private Filter[] currentChain;
+    private Filter[] cachedChain;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SecretKey key = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(key).build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(ISSUER));
+        JwtEncoder encoder = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject("john.doe")
+                .issuer(ISSUER)
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(3600))
+                .id(UUID.randomUUID().toString())
+                .claim("roles", "USER")
+                .build();
+        authorization = "Bearer " + encoder.encode(JwtEncoderParameters.from(
+                JwsHeader.with(MacAlgorithm.HS256).build(), claims)).getTokenValue();
+
+        blacklist = new TokenBlacklist(new InMemoryTokenBlacklistStore(),
+                new VerifiedJwtCache(new SimpleMeterRegistry(), 0), 3600, 3600, 100_000, 0.01);
+        blacklist.warmUp();
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        previousChain = new Filter[]{
+                new DecodingBlacklistFilter(blacklist, decoder),
+                bearerFilter(decoder)
+        };
+        currentChain = new Filter[]{
+                bearerFilter(decoder),
+                new BlacklistFilter(blacklist, objectMapper)
+        };
+        JwtDecoder caching = new CachingJwtDecoder(decoder, new VerifiedJwtCache(new SimpleMeterRegistry(), 10_000));
+        cachedChain = new Filter[]{
+                bearerFilter(caching),
+                new BlacklistFilter(blacklist, objectMapper)
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        blacklist.shutdown();
+    }
+
+    @Benchmark
+    public int previousChain() throws Exception {
+        return run(previousChain);
+    }
+
+    @Benchmark
+    public int currentChain() throws Exception {
+        return run(currentChain);
+    }
+
+    @Benchmark
+    public int cachedChain() throws Exception {
+        return run(cachedChain);
+    }
+
+    private int run(Filter[] filters) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/trainees/profile");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            new MockFilterChain(SERVLET, filters).doFilter(request, response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response.getStatus();
+    }
+
+    private static BearerTokenAuthenticationFilter bearerFilter(JwtDecoder decoder) {
+        return new BearerTokenAuthenticationFilter(new ProviderManager(new JwtAuthenticationProvider(decoder)));
+    }
+
+    // The blacklist check as it was before the resource server's Jwt was reused
+    private static final class DecodingBlacklistFilter extends OncePerRequestFilter {
+
+        private final TokenBlacklist blacklist;
+        private final JwtDecoder decoder;
+
+        private DecodingBlacklistFilter(TokenBlacklist blacklist, JwtDecoder decoder) {
+            this.blacklist = blacklist;
+            this.decoder = decoder;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+                throws ServletException, IOException {
+            String auth = req.getHeader("Authorization");
+            if (Objects.nonNull(auth) && auth.startsWith("Bearer ")) {
+                Jwt jwt = decoder.decode(auth.substring(7));
+                if (Objects.nonNull(jwt.getId()) && blacklist.isInvalid(jwt.getId())) {
+                    res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                    return;
+                }
+            }
+            chain.doFilter(req, res);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(JwtFilterChainBenchmark.class.getSimpleName())
+                .parent(new CommandLineOptions(args))
+                .build()).run();
+    }
+}
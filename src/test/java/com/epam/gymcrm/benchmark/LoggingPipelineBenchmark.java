@@ -0,0 +1,132 @@
+package com.epam.gymcrm.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One service-style INFO line from four request threads through the former pipeline (pattern
+ * encoder, synchronous console), the JSON encoder alone, and the JSON encoder behind the
+ * AsyncAppender configured in logback-spring.xml. Output goes to /dev/null, so every event
+ * still costs a write call the way an unbuffered stdout does. The async numbers are what the
+ * request threads see; once the worker falls behind, INFO events beyond the discarding
+ * threshold are dropped rather than waited for.
+ * Run with: {@code java -cp <test classpath> com.epam.gymcrm.benchmark.LoggingPipelineBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingPipelineBenchmark {
+
+    private static final String PATTERN =
+            "[%d{yyyy-MM-dd HH:mm:ss.SSS}] [%thread] [%level] [%X{transactionId}] %logger{36} - %msg%n";
+
+    @Param({"syncPattern", "syncJson", "asyncJson"})
+    public String pipeline;
+
+    private LoggerContext context;
+    private OutputStream sink;
+    private Logger logger;
+
+    @State(Scope.Thread)
+    public static class RequestThread {
+
+        @Setup
+        public void setUp(LoggingPipelineBenchmark benchmark) {
+            benchmark.context.getMDCAdapter().put("transactionId", UUID.randomUUID().toString());
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        File devNull = new File("/dev/null");
+        sink = devNull.exists() ? new FileOutputStream(devNull) : OutputStream.nullOutputStream();
+
+        OutputStreamAppender<ILoggingEvent> console = new OutputStreamAppender<>();
+        console.setContext(context);
+        console.setEncoder(pipeline.equals("syncPattern") ? patternEncoder() : jsonEncoder());
+        console.setOutputStream(sink);
+        console.start();
+
+        Appender<ILoggingEvent> appender = console;
+        if (pipeline.equals("asyncJson")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setIncludeCallerData(false);
+            async.addAppender(console);
+            async.start();
+            appender = async;
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        logger = context.getLogger("com.epam.gymcrm.domain.service.TraineeService");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        sink.close();
+    }
+
+    @Benchmark
+    public void serviceLogLine(RequestThread thread) {
+        logger.info("Trainee profile fetched: username={}, trainers={}", "ali.veli", 3);
+    }
+
+    private Encoder<ILoggingEvent> patternEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        return encoder;
+    }
+
+    // Same settings as logback-spring.xml
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        JsonEncoder encoder = new JsonEncoder();
+        encoder.setContext(context);
+        encoder.setWithSequenceNumber(false);
+        encoder.setWithNanoseconds(false);
+        encoder.setWithContext(false);
+        encoder.setWithMessage(false);
+        encoder.setWithArguments(false);
+        encoder.setWithFormattedMessage(true);
+        encoder.start();
+        return encoder;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(LoggingPipelineBenchmark.class.getSimpleName())
+                .parent(new CommandLineOptions(args))
+                .build()).run();
+    }
+}
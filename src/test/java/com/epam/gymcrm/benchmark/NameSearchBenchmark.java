@@ -0,0 +1,129 @@
+package com.epam.gymcrm.benchmark;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trainer-name filter over 1M trainings on PostgreSQL: the former lower(first || ' ' || last) LIKE
+ * expression versus the trigram-indexed users.search_name column. The schema mirrors the entity DDL
+ * and the index comes from the shipped db/search/users-name-trigram.sql script.
+ * Run with: {@code java -cp <test classpath> com.epam.gymcrm.benchmark.NameSearchBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameSearchBenchmark {
+
+    private static final int USERS = 200_000;
+    private static final int TRAININGS = 1_000_000;
+
+    private static final String SELECT = "SELECT t.id, t.training_name, t.training_date, tt.training_type_name, " +
+            "t.training_duration, u.first_name, u.last_name FROM trainings t " +
+            "JOIN training_types tt ON tt.id = t.training_type_id " +
+            "JOIN trainers tr ON tr.id = t.trainer_id " +
+            "JOIN users u ON u.id = tr.user_id ";
+
+    private static final String EXPRESSION_QUERY = SELECT +
+            "WHERE lower(u.first_name || ' ' || u.last_name) LIKE ? ORDER BY t.training_date, t.id";
+    private static final String TRIGRAM_QUERY = SELECT +
+            "WHERE u.search_name LIKE ? ORDER BY t.training_date, t.id";
+
+    // Selective surname match versus a first name shared by an eighth of all trainers
+    @Param({"surname4711", "zeynep"})
+    public String term;
+
+    private EmbeddedPostgres postgres;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+        connection = dataSource.getConnection();
+        seed(connection);
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/search/users-name-trigram.sql"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connection.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public void expression(Blackhole blackhole) throws SQLException {
+        search(EXPRESSION_QUERY, blackhole);
+    }
+
+    @Benchmark
+    public void trigram(Blackhole blackhole) throws SQLException {
+        search(TRIGRAM_QUERY, blackhole);
+    }
+
+    private void search(String sql, Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, "%" + term + "%");
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    blackhole.consume(rows.getLong(1));
+                    blackhole.consume(rows.getString(6));
+                }
+            }
+        }
+    }
+
+    private static void seed(Connection connection) throws SQLException {
+        int half = USERS / 2;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE training_types (id bigint PRIMARY KEY, training_type_name varchar(255) NOT NULL)");
+            statement.execute("CREATE TABLE users (id bigint PRIMARY KEY, first_name varchar(255) NOT NULL, " +
+                    "last_name varchar(255) NOT NULL, username varchar(255) NOT NULL UNIQUE, " +
+                    "password varchar(255) NOT NULL, is_active boolean NOT NULL)");
+            statement.execute("CREATE TABLE trainers (id bigint PRIMARY KEY, user_id bigint NOT NULL UNIQUE REFERENCES users, " +
+                    "specialization_id bigint NOT NULL REFERENCES training_types)");
+            statement.execute("CREATE TABLE trainees (id bigint PRIMARY KEY, user_id bigint NOT NULL UNIQUE REFERENCES users)");
+            statement.execute("CREATE TABLE trainings (id bigint PRIMARY KEY, trainee_id bigint NOT NULL REFERENCES trainees, " +
+                    "trainer_id bigint NOT NULL REFERENCES trainers, training_type_id bigint NOT NULL REFERENCES training_types, " +
+                    "training_name varchar(255) NOT NULL, training_date timestamp NOT NULL, training_duration int NOT NULL)");
+            statement.execute("CREATE INDEX idx_trainings_trainee_date_id ON trainings (trainee_id, training_date, id)");
+            statement.execute("CREATE INDEX idx_trainings_trainer_date_id ON trainings (trainer_id, training_date, id)");
+
+            statement.execute("INSERT INTO training_types SELECT g, 'Type' || g FROM generate_series(1, 10) g");
+            statement.execute("INSERT INTO users SELECT g, " +
+                    "(ARRAY['Ali','Ayse','Mehmet','Zeynep','John','Jane','Ahmet','Elif'])[1 + g % 8], " +
+                    "'Surname' || g, 'user' || g, 'x', true FROM generate_series(1, " + USERS + ") g");
+            statement.execute("INSERT INTO trainers SELECT g, g, 1 + g % 10 FROM generate_series(1, " + half + ") g");
+            statement.execute("INSERT INTO trainees SELECT g, " + half + " + g FROM generate_series(1, " + half + ") g");
+            statement.execute("INSERT INTO trainings SELECT g, 1 + g % " + half + ", 1 + (g::bigint * 7919) % " + half + ", " +
+                    "1 + g % 10, 'Training ' || g, timestamp '2024-01-01' + g * interval '1 minute', 60 " +
+                    "FROM generate_series(1, " + TRAININGS + ") g");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(NameSearchBenchmark.class.getSimpleName())
+                .parent(new CommandLineOptions(args))
+                .build()).run();
+    }
+}
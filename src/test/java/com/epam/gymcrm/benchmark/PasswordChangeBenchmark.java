@@ -0,0 +1,96 @@
+package com.epam.gymcrm.benchmark;
+
+import com.epam.gymcrm.api.payload.request.ChangePasswordRequest;
+import com.epam.gymcrm.db.entity.UserEntity;
+import com.epam.gymcrm.db.repository.UserRepository;
+import com.epam.gymcrm.db.repository.projection.UserCredentialsView;
+import com.epam.gymcrm.domain.exception.BadRequestException;
+import com.epam.gymcrm.domain.service.AuthService;
+import com.epam.gymcrm.infrastructure.security.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * One password change at BCrypt cost 10: the former pipeline (verify old, verify new against
+ * the stored hash, encode) versus AuthService.changePassword (verify old, compare raw inputs, encode).
+ * Single-threaded average time, so the score tracks the CPU spent per request.
+ * Run with: {@code java -cp <test classpath> com.epam.gymcrm.benchmark.PasswordChangeBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class PasswordChangeBenchmark {
+
+    private static final String USERNAME = "john.doe";
+    private static final String OLD_PASSWORD = "old-Secret-1";
+    private static final String NEW_PASSWORD = "new-Secret-2";
+
+    private PasswordEncoder encoder;
+    private PasswordHasher hasher;
+    private UserRepository userRepository;
+    private AuthService authService;
+    private String storedHash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(10);
+        storedHash = encoder.encode(OLD_PASSWORD);
+        hasher = new PasswordHasher(encoder, new SimpleMeterRegistry(), 10, 1, 16, 10_000);
+
+        userRepository = Mockito.mock(UserRepository.class);
+        when(userRepository.findByUsername(USERNAME))
+                .thenAnswer(inv -> Optional.of(new UserEntity("John", "Doe", USERNAME, storedHash, true)));
+        when(userRepository.findCredentialsByUsername(USERNAME))
+                .thenAnswer(inv -> Optional.of(new UserCredentialsView(1L, USERNAME, storedHash, true)));
+        when(userRepository.save(any(UserEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(userRepository.updatePasswordIfUnchanged(any(), anyString(), anyString())).thenReturn(1);
+
+        authService = new AuthService(userRepository, hasher, null, null, null, null, null, null, "gym-crm", 30);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Benchmark
+    public void previousPipeline() {
+        UserEntity user = userRepository.findByUsername(USERNAME).orElseThrow();
+        if (!hasher.matches(OLD_PASSWORD, user.getPassword())) {
+            throw new BadRequestException("Invalid old password");
+        }
+        if (hasher.matches(NEW_PASSWORD, user.getPassword())) {
+            throw new BadRequestException("New password cannot be same as old password");
+        }
+        user.setPassword(hasher.encode(NEW_PASSWORD));
+        userRepository.save(user);
+    }
+
+    @Benchmark
+    public void changePassword() {
+        authService.changePassword(new ChangePasswordRequest(USERNAME, OLD_PASSWORD, NEW_PASSWORD));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(PasswordChangeBenchmark.class.getSimpleName())
+                .parent(new CommandLineOptions(args))
+                .build()).run();
+    }
+}
@@ -0,0 +1,42 @@
+package com.epam.gymcrm.benchmark;
+
+import com.epam.gymcrm.api.logging.TransactionIdGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One request ID from eight threads: the former {@code UUID.randomUUID()} (shared SecureRandom)
+ * versus TransactionIdGenerator (ThreadLocalRandom, time-ordered).
+ * Run with: {@code java -cp <test classpath> com.epam.gymcrm.benchmark.TransactionIdBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class TransactionIdBenchmark {
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String transactionIdGenerator() {
+        return TransactionIdGenerator.next();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(TransactionIdBenchmark.class.getSimpleName())
+                .parent(new CommandLineOptions(args))
+                .build()).run();
+    }
+}
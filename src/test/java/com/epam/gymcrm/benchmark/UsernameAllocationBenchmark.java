@@ -0,0 +1,82 @@
+package com.epam.gymcrm.benchmark;
+
+import com.epam.gymcrm.db.repository.UsernameSuffixRepositoryImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Username allocation for a base that already has {@code collisions} users (john.smith,
+ * john.smith1, ...): the former existsByUsername probe loop versus the per-base counter.
+ * The probe loop grows with the number of collisions, the counter stays flat. H2 has no
+ * network latency, so against PostgreSQL every probe also costs a round trip.
+ * Run with: {@code java -cp <test classpath> com.epam.gymcrm.benchmark.UsernameAllocationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UsernameAllocationBenchmark {
+
+    private static final String BASE = "john.smith";
+
+    @Param({"0", "10", "100", "1000"})
+    public int collisions;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private UsernameSuffixRepositoryImpl repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:usernames_" + collisions + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE users (id bigint PRIMARY KEY, username varchar(255) NOT NULL UNIQUE)");
+        new ResourceDatabasePopulator(new ClassPathResource("db/user/username-counters.sql")).execute(dataSource);
+        for (int i = 0; i < collisions; i++) {
+            jdbcTemplate.update("INSERT INTO users (id, username) VALUES (?, ?)", i, i == 0 ? BASE : BASE + i);
+        }
+        repository = new UsernameSuffixRepositoryImpl(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public String probeLoop() {
+        String candidate = BASE;
+        int counter = 1;
+        while (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT count(*) > 0 FROM users WHERE username = ?", Boolean.class, candidate))) {
+            candidate = BASE + counter++;
+        }
+        return candidate;
+    }
+
+    @Benchmark
+    public String counter() {
+        long suffix = repository.nextUsernameSuffix(BASE);
+        return suffix == 0 ? BASE : BASE + suffix;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(UsernameAllocationBenchmark.class.getSimpleName())
+                .parent(new CommandLineOptions(args))
+                .build()).run();
+    }
+}
@@ -0,0 +1,78 @@
+package com.epam.gymcrm.config;
+
+import com.epam.gymcrm.db.cache.CacheRegions;
+import org.ehcache.config.CacheRuntimeConfiguration;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecondLevelCacheConfigTest {
+
+    private final SecondLevelCacheConfig config = new SecondLevelCacheConfig();
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(config, "entityMaxEntries", 100L);
+        ReflectionTestUtils.setField(config, "entityTtlSeconds", 30L);
+        ReflectionTestUtils.setField(config, "usersTtlSeconds", 3L);
+        ReflectionTestUtils.setField(config, "queryMaxEntries", 10L);
+        ReflectionTestUtils.setField(config, "queryTtlSeconds", 5L);
+        cacheManager = config.hibernateCacheManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    void hibernateCacheManager_shouldCreateEveryRegion() {
+        for (String region : CacheRegions.ENTITY_REGIONS) {
+            assertThat(cacheManager.getCache(region)).as(region).isNotNull();
+        }
+        assertThat(cacheManager.getCache(CacheRegions.QUERY_RESULTS)).isNotNull();
+        assertThat(cacheManager.getCache(CacheRegions.UPDATE_TIMESTAMPS)).isNotNull();
+    }
+
+    @Test
+    void hibernateCacheManager_shouldApplyConfiguredSizeAndTtl() {
+        var users = runtimeConfiguration(cacheManager.getCache(CacheRegions.USERS));
+        var trainees = runtimeConfiguration(cacheManager.getCache(CacheRegions.TRAINEES));
+        var queries = runtimeConfiguration(cacheManager.getCache(CacheRegions.QUERY_RESULTS));
+        var timestamps = runtimeConfiguration(cacheManager.getCache(CacheRegions.UPDATE_TIMESTAMPS));
+
+        assertThat(users.getResourcePools().getPoolForResource(ResourceType.Core.HEAP).getSize()).isEqualTo(100L);
+        assertThat(users.getExpiryPolicy().getExpiryForCreation(null, null)).isEqualTo(Duration.ofSeconds(3));
+        assertThat(trainees.getExpiryPolicy().getExpiryForCreation(null, null)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(queries.getResourcePools().getPoolForResource(ResourceType.Core.HEAP).getSize()).isEqualTo(10L);
+        assertThat(queries.getExpiryPolicy().getExpiryForCreation(null, null)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(timestamps.getExpiryPolicy()).isEqualTo(ExpiryPolicyBuilder.noExpiration());
+    }
+
+    @Test
+    void hibernateCacheManager_shouldStartEmpty_afterPreviousManagerClosed() {
+        cacheManager.getCache(CacheRegions.USERS).put("k", "v");
+        cacheManager.close();
+
+        cacheManager = config.hibernateCacheManager();
+
+        assertThat(cacheManager.getCache(CacheRegions.USERS).get("k")).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CacheRuntimeConfiguration<Object, Object> runtimeConfiguration(Cache<Object, Object> cache) {
+        Eh107Configuration<Object, Object> configuration = cache.getConfiguration(Eh107Configuration.class);
+        return configuration.unwrap(CacheRuntimeConfiguration.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.epam.gymcrm.db.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against H2 in PostgreSQL mode with the join table as Hibernate creates it for the trainers set.
+ */
+class TraineeTrainerRepositoryImplTest {
+
+    private static final long OLD_TRAINER = 1;
+    private static final long NEW_TRAINER = 2;
+    private static final long OTHER_TRAINER = 3;
+
+    private JdbcTemplate jdbcTemplate;
+    private TraineeTrainerRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE trainee_trainer (trainee_id bigint NOT NULL, trainer_id bigint NOT NULL, "
+                + "PRIMARY KEY (trainee_id, trainer_id))");
+        // 10 and 11 train with the old trainer, 11 also with the new one, 12 only with another trainer
+        jdbcTemplate.batchUpdate("INSERT INTO trainee_trainer VALUES (?, ?)", List.of(
+                new Object[]{10L, OLD_TRAINER},
+                new Object[]{10L, OTHER_TRAINER},
+                new Object[]{11L, OLD_TRAINER},
+                new Object[]{11L, NEW_TRAINER},
+                new Object[]{12L, OTHER_TRAINER}));
+        repository = new TraineeTrainerRepositoryImpl(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void reassignTrainer_shouldMoveAllTrainees_withoutDuplicatingExistingPairs() {
+        assertEquals(2, repository.reassignTrainer(OLD_TRAINER, NEW_TRAINER, null));
+
+        assertEquals(List.of(NEW_TRAINER, OTHER_TRAINER), trainersOf(10));
+        assertEquals(List.of(NEW_TRAINER), trainersOf(11));
+        assertEquals(List.of(OTHER_TRAINER), trainersOf(12));
+    }
+
+    @Test
+    void reassignTrainer_shouldOnlyMoveListedTrainees() {
+        assertEquals(1, repository.reassignTrainer(OLD_TRAINER, NEW_TRAINER, List.of(10L, 12L)));
+
+        assertEquals(List.of(NEW_TRAINER, OTHER_TRAINER), trainersOf(10));
+        assertEquals(List.of(OLD_TRAINER, NEW_TRAINER), trainersOf(11));
+        assertEquals(List.of(OTHER_TRAINER), trainersOf(12));
+    }
+
+    @Test
+    void reassignTrainer_withEmptyTraineeList_shouldChangeNothing() {
+        List<Map<String, Object>> before = jdbcTemplate.queryForList("SELECT * FROM trainee_trainer ORDER BY 1, 2");
+
+        assertEquals(0, repository.reassignTrainer(OLD_TRAINER, NEW_TRAINER, List.of()));
+
+        assertEquals(before, jdbcTemplate.queryForList("SELECT * FROM trainee_trainer ORDER BY 1, 2"));
+    }
+
+    private List<Long> trainersOf(long traineeId) {
+        return jdbcTemplate.queryForList(
+                "SELECT trainer_id FROM trainee_trainer WHERE trainee_id = ? ORDER BY trainer_id", Long.class, traineeId);
+    }
+}
@@ -0,0 +1,134 @@
+package com.epam.gymcrm.db.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against H2 in PostgreSQL mode with a bare users table plus the shipped counter script.
+ */
+class UsernameSuffixRepositoryImplTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private UsernameSuffixRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE users (id bigint PRIMARY KEY, username varchar(255) NOT NULL UNIQUE)");
+        new ResourceDatabasePopulator(new ClassPathResource("db/user/username-counters.sql")).execute(dataSource);
+        repository = node();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    private UsernameSuffixRepositoryImpl node() {
+        return new UsernameSuffixRepositoryImpl(new JdbcTemplate(dataSource), new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void nextUsernameSuffix_shouldStartAtBareBase_andCountUp() {
+        assertEquals(0, repository.nextUsernameSuffix("ali.veli"));
+        assertEquals(1, repository.nextUsernameSuffix("ali.veli"));
+        assertEquals(2, repository.nextUsernameSuffix("ali.veli"));
+        assertEquals(0, repository.nextUsernameSuffix("ayse.fatma"));
+    }
+
+    @Test
+    void nextUsernameSuffix_shouldContinueAfterExistingUsernames() {
+        jdbcTemplate.update("INSERT INTO users (id, username) VALUES (1, 'john.smith'), (2, 'john.smith1'), "
+                + "(3, 'john.smith7'), (4, 'john.smithson'), (5, 'johnxsmith9')");
+
+        assertEquals(8, repository.nextUsernameSuffix("john.smith"));
+        // '_' is matched literally, not as a LIKE wildcard
+        assertEquals(0, repository.nextUsernameSuffix("john_smith"));
+    }
+
+    @Test
+    void nextUsernameSuffix_shouldNeverRepeat_underParallelRegistration() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            UsernameSuffixRepositoryImpl node = node();
+            futures.add(pool.submit(() -> node.nextUsernameSuffix("john.smith")));
+        }
+        Set<Long> suffixes = new HashSet<>();
+        for (Future<Long> future : futures) {
+            suffixes.add(future.get());
+        }
+        pool.shutdown();
+
+        assertEquals(200, suffixes.size());
+        assertEquals(0L, suffixes.stream().mapToLong(Long::longValue).min().orElseThrow());
+        assertEquals(199L, suffixes.stream().mapToLong(Long::longValue).max().orElseThrow());
+    }
+
+    @Test
+    void nextUsernameSuffix_shouldHandSuffixBack_whenRegistrationRollsBack() {
+        TransactionTemplate registration = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        registration.executeWithoutResult(status -> {
+            assertEquals(0, repository.nextUsernameSuffix("ali.veli"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, repository.nextUsernameSuffix("ali.veli"));
+    }
+
+    @Test
+    void registrations_shouldNeedOneConnectionEach_whenPoolIsSmallerThanParallelism() throws Exception {
+        int poolSize = 4;
+        try (HikariDataSource pool = new HikariDataSource()) {
+            pool.setDataSource(dataSource);
+            pool.setMaximumPoolSize(poolSize);
+            // A registration waiting for a second connection would exhaust the pool and time out here
+            pool.setConnectionTimeout(2_000);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(pool);
+            JdbcTemplate pooled = new JdbcTemplate(pool);
+            UsernameSuffixRepositoryImpl pooledRepository = new UsernameSuffixRepositoryImpl(pooled, transactionManager);
+            TransactionTemplate registration = new TransactionTemplate(transactionManager);
+
+            ExecutorService executor = Executors.newFixedThreadPool(poolSize + 1);
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i <= poolSize; i++) {
+                long id = i;
+                futures.add(executor.submit(() -> registration.execute(status -> {
+                    long suffix = pooledRepository.nextUsernameSuffix("john.smith");
+                    String username = suffix == 0 ? "john.smith" : "john.smith" + suffix;
+                    pooled.update("INSERT INTO users (id, username) VALUES (?, ?)", id, username);
+                    return username;
+                })));
+            }
+            Set<String> usernames = new HashSet<>();
+            for (Future<String> future : futures) {
+                usernames.add(future.get());
+            }
+            executor.shutdown();
+
+            assertEquals(poolSize + 1, usernames.size());
+        }
+    }
+}
@@ -108,36 +108,21 @@ class TrainerTrainingSpecificationTest {
 
         Path trainee = mock(Path.class);
         Path user = mock(Path.class);
-        Path firstName = mock(Path.class);
-        Path lastName = mock(Path.class);
+        Path searchName = mock(Path.class);
 
         when(root.get("trainee")).thenReturn(trainee);
         when(trainee.get("user")).thenReturn(user);
-        when(user.get("firstName")).thenReturn(firstName);
-        when(user.get("lastName")).thenReturn(lastName);
-
-        Expression<String> spaceLiteral = mock(Expression.class);
-        when(cb.literal(" ")).thenReturn(spaceLiteral);
-
-        Expression<String> concat1 = mock(Expression.class);
-        Expression<String> concat2 = mock(Expression.class);
-        when(cb.concat(firstName, spaceLiteral)).thenReturn(concat1);
-        when(cb.concat(concat1, lastName)).thenReturn(concat2);
-
-        Expression<String> lower = mock(Expression.class);
-        when(cb.lower(concat2)).thenReturn(lower);
+        when(user.get("searchName")).thenReturn(searchName);
 
         Predicate predicate = mock(Predicate.class);
-        when(cb.like(any(), eq("%mehmet%"))).thenReturn(predicate);
+        when(cb.like(searchName, "%mehmet%")).thenReturn(predicate);
 
         Specification<TrainingEntity> spec = TrainerTrainingSpecification.traineeName("Mehmet");
         Predicate result = spec.toPredicate(root, mock(CriteriaQuery.class), cb);
 
         assertEquals(predicate, result);
 
-        verify(cb).concat(firstName, spaceLiteral);
-        verify(cb).concat(concat1, lastName);
-        verify(cb).lower(concat2);
-        verify(cb).like(any(), eq("%mehmet%"));
+        verify(cb).like(searchName, "%mehmet%");
+        verify(cb, never()).lower(any());
     }
 }
\ No newline at end of file
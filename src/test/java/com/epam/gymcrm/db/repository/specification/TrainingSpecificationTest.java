@@ -111,37 +111,22 @@ class TrainingSpecificationTest {
 
         Path trainer = mock(Path.class);
         Path user = mock(Path.class);
-        Path firstName = mock(Path.class);
-        Path lastName = mock(Path.class);
+        Path searchName = mock(Path.class);
 
         when(root.get("trainer")).thenReturn(trainer);
         when(trainer.get("user")).thenReturn(user);
-        when(user.get("firstName")).thenReturn(firstName);
-        when(user.get("lastName")).thenReturn(lastName);
-
-        Expression<String> spaceLiteral = mock(Expression.class);
-        when(cb.literal(" ")).thenReturn(spaceLiteral);
-
-        Expression<String> concat1 = mock(Expression.class);
-        Expression<String> concat2 = mock(Expression.class);
-        when(cb.concat(firstName, spaceLiteral)).thenReturn(concat1);
-        when(cb.concat(concat1, lastName)).thenReturn(concat2);
-
-        Expression<String> lower = mock(Expression.class);
-        when(cb.lower(concat2)).thenReturn(lower);
+        when(user.get("searchName")).thenReturn(searchName);
 
         Predicate predicate = mock(Predicate.class);
-        when(cb.like(any(), eq("%ahmet%"))).thenReturn(predicate);
+        when(cb.like(searchName, "%ahmet%")).thenReturn(predicate);
 
         Specification<TrainingEntity> spec = TrainingSpecification.trainerName("Ahmet");
         Predicate result = spec.toPredicate(root, query, cb);
 
         assertEquals(predicate, result);
 
-        verify(cb).concat(firstName, spaceLiteral);
-        verify(cb).concat(concat1, lastName);
-        verify(cb).lower(concat2);
-        verify(cb).like(any(), eq("%ahmet%"));
+        verify(cb).like(searchName, "%ahmet%");
+        verify(cb, never()).lower(any());
     }
 
 
@@ -157,11 +142,11 @@ class TrainingSpecificationTest {
         CriteriaQuery<?> query = mock(CriteriaQuery.class);
         CriteriaBuilder cb = mock(CriteriaBuilder.class);
 
-        Join<Object, Object> join = mock(Join.class);
-        Path<Object> typeNamePath = mock(Path.class);
+        Path trainingType = mock(Path.class);
+        Path typeNamePath = mock(Path.class);
 
-        when(root.join("trainingType")).thenReturn(join);
-        when(join.get("trainingTypeName")).thenReturn(typeNamePath);
+        when(root.get("trainingType")).thenReturn(trainingType);
+        when(trainingType.get("trainingTypeName")).thenReturn(typeNamePath);
 
         Predicate predicate = mock(Predicate.class);
         when(cb.equal(typeNamePath, "Yoga")).thenReturn(predicate);
@@ -170,8 +155,8 @@ class TrainingSpecificationTest {
         Predicate result = spec.toPredicate(root, query, cb);
 
         assertEquals(predicate, result);
-        verify(root).join("trainingType");
-        verify(join).get("trainingTypeName");
+        verify(root, never()).join("trainingType");
+        verify(trainingType).get("trainingTypeName");
         verify(cb).equal(typeNamePath, "Yoga");
     }
 }
\ No newline at end of file
@@ -3,26 +3,28 @@ package com.epam.gymcrm.domain.service;
 import com.epam.gymcrm.api.payload.request.ChangePasswordRequest;
 import com.epam.gymcrm.api.payload.request.LoginRequest;
 import com.epam.gymcrm.api.payload.response.LoginResponse;
-import com.epam.gymcrm.db.entity.UserEntity;
 import com.epam.gymcrm.db.repository.UserRepository;
+import com.epam.gymcrm.db.repository.projection.UserCredentialsView;
 import com.epam.gymcrm.domain.exception.AccountLockedException;
 import com.epam.gymcrm.domain.exception.BadRequestException;
 import com.epam.gymcrm.domain.exception.InvalidCredentialsException;
 import com.epam.gymcrm.domain.exception.NotFoundException;
 import com.epam.gymcrm.infrastructure.security.BruteForceService;
+import com.epam.gymcrm.infrastructure.security.PasswordHasher;
 import com.epam.gymcrm.infrastructure.security.TokenBlacklist;
+import com.epam.gymcrm.infrastructure.security.UsernameFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
 import java.time.Instant;
 import java.util.Map;
@@ -37,10 +39,14 @@ class AuthServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+    @Mock
+    private PasswordUpgradeService passwordUpgradeService;
     @Mock
     private BruteForceService bruteForce;
     @Mock
+    private UsernameFilter usernameFilter;
+    @Mock
     private JwtEncoder jwtEncoder;
     @Mock
     private JwtDecoder jwtDecoder;
@@ -57,14 +63,17 @@ class AuthServiceTest {
     void setUp() {
         authService = new AuthService(
                 userRepository,
-                passwordEncoder,
+                passwordHasher,
+                passwordUpgradeService,
                 bruteForce,
+                usernameFilter,
                 jwtEncoder,
                 jwtDecoder,
                 blacklist,
                 "test-issuer",
                 60L
         );
+        lenient().when(usernameFilter.mightExist(anyString())).thenReturn(true);
     }
 
     private Jwt fakeJwt(String token, Instant iat, Instant exp, Map<String, Object> claims) {
@@ -76,9 +85,9 @@ class AuthServiceTest {
     void login_shouldSucceed_whenCredentialsCorrectAndActive() {
         when(bruteForce.isBlocked(USERNAME)).thenReturn(false);
 
-        UserEntity userEntity = new UserEntity("Ali", "Veli", USERNAME, HASH_PASS, true);
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(userEntity));
-        when(passwordEncoder.matches(RAW_PASS, HASH_PASS)).thenReturn(true);
+        UserCredentialsView user = new UserCredentialsView(1L, USERNAME, HASH_PASS, true);
+        when(userRepository.findCredentialsByUsername(USERNAME)).thenReturn(Optional.of(user));
+        when(passwordHasher.matches(RAW_PASS, HASH_PASS)).thenReturn(true);
 
         Instant now = Instant.now();
         Instant exp = now.plusSeconds(3600);
@@ -91,26 +100,55 @@ class AuthServiceTest {
         assertEquals("TOKEN", resp.token());
         assertNotNull(resp.expiresAt());
         verify(bruteForce).registerSuccess(USERNAME);
+        verify(passwordUpgradeService).upgradeIfNeeded(user.id(), HASH_PASS, RAW_PASS);
     }
 
     @Test
-    void login_shouldFail_whenUserNotFound() {
+    void login_shouldFailLikeWrongPassword_whenUserNotFound() {
         when(bruteForce.isBlocked(USERNAME)).thenReturn(false);
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.empty());
+        when(userRepository.findCredentialsByUsername(USERNAME)).thenReturn(Optional.empty());
 
-        assertThrows(NotFoundException.class,
+        assertThrows(InvalidCredentialsException.class,
                 () -> authService.login(new LoginRequest(USERNAME, RAW_PASS)));
 
+        verify(passwordHasher).matchesNothing(RAW_PASS);
+        verify(bruteForce).registerFailure(USERNAME);
         verify(bruteForce, never()).registerSuccess(anyString());
     }
 
+    @Test
+    void login_shouldSkipDatabaseAndUsernameCounter_whenUsernameFilterRulesUserOut() {
+        when(usernameFilter.mightExist("nobody")).thenReturn(false);
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> authService.login(new LoginRequest("nobody", RAW_PASS)));
+
+        verifyNoInteractions(userRepository);
+        verify(passwordHasher).matchesNothing(RAW_PASS);
+        verify(bruteForce).registerAddressFailure();
+        verify(bruteForce, never()).isBlocked(anyString());
+        verify(bruteForce, never()).registerFailure(anyString());
+    }
+
+    @Test
+    void login_shouldFail_whenAddressBlocked_andUsernameFilterRulesUserOut() {
+        when(usernameFilter.mightExist("nobody")).thenReturn(false);
+        when(bruteForce.isAddressBlocked()).thenReturn(true);
+
+        assertThrows(AccountLockedException.class,
+                () -> authService.login(new LoginRequest("nobody", RAW_PASS)));
+
+        verify(passwordHasher, never()).matchesNothing(anyString());
+        verify(bruteForce, never()).registerAddressFailure();
+    }
+
     @Test
     void login_shouldFail_whenPasswordIsWrong() {
         when(bruteForce.isBlocked(USERNAME)).thenReturn(false);
 
-        UserEntity userEntity = new UserEntity("Ali", "Veli", USERNAME, HASH_PASS, true);
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(userEntity));
-        when(passwordEncoder.matches("wrong", HASH_PASS)).thenReturn(false);
+        UserCredentialsView user = new UserCredentialsView(1L, USERNAME, HASH_PASS, true);
+        when(userRepository.findCredentialsByUsername(USERNAME)).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("wrong", HASH_PASS)).thenReturn(false);
 
         assertThrows(InvalidCredentialsException.class,
                 () -> authService.login(new LoginRequest(USERNAME, "wrong")));
@@ -123,9 +161,9 @@ class AuthServiceTest {
     void login_shouldFail_whenUserIsNotActive() {
         when(bruteForce.isBlocked(USERNAME)).thenReturn(false);
 
-        UserEntity userEntity = new UserEntity("Ali", "Veli", USERNAME, HASH_PASS, false);
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(userEntity));
-        when(passwordEncoder.matches(RAW_PASS, HASH_PASS)).thenReturn(true);
+        UserCredentialsView user = new UserCredentialsView(1L, USERNAME, HASH_PASS, false);
+        when(userRepository.findCredentialsByUsername(USERNAME)).thenReturn(Optional.of(user));
+        when(passwordHasher.matches(RAW_PASS, HASH_PASS)).thenReturn(true);
 
         assertThrows(BadRequestException.class,
                 () -> authService.login(new LoginRequest(USERNAME, RAW_PASS)));
@@ -158,6 +196,22 @@ class AuthServiceTest {
         verify(blacklist).invalidate("JTI-1", exp);
     }
 
+    @Test
+    void logout_shouldReuseAuthenticatedJwt_withoutDecodingAgain() {
+        Instant now = Instant.now();
+        Instant exp = now.plusSeconds(600);
+        Jwt authenticated = fakeJwt("ABC", now, exp, Map.of("jti", "JTI-2"));
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(authenticated));
+        try {
+            authService.logout("Bearer ABC");
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        verify(blacklist).invalidate("JTI-2", exp);
+        verifyNoInteractions(jwtDecoder);
+    }
+
     @Test
     void logout_shouldIgnore_whenHeaderMissingOrInvalid() {
         authService.logout(null);
@@ -172,65 +226,74 @@ class AuthServiceTest {
         String currentHash = "HASH_OLD";
         String newHash = "HASH_NEW";
 
-        UserEntity ue = new UserEntity();
-        ue.setUsername(USERNAME);
-        ue.setPassword(currentHash);
+        UserCredentialsView ue = new UserCredentialsView(1L, USERNAME, currentHash, true);
 
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(ue));
-        when(passwordEncoder.matches(oldRaw, currentHash)).thenReturn(true);   // eski doğru
-        when(passwordEncoder.matches(newRaw, currentHash)).thenReturn(false); // yeni eskisiyle aynı değil
-        when(passwordEncoder.encode(newRaw)).thenReturn(newHash);
-        when(userRepository.save(any(UserEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(userRepository.findCredentialsByUsername(USERNAME)).thenReturn(Optional.of(ue));
+        when(passwordHasher.matches(oldRaw, currentHash)).thenReturn(true);   // eski doğru
+        when(passwordHasher.encode(newRaw)).thenReturn(newHash);
+        when(userRepository.updatePasswordIfUnchanged(1L, currentHash, newHash)).thenReturn(1);
 
         assertDoesNotThrow(() ->
                 authService.changePassword(new ChangePasswordRequest(USERNAME, oldRaw, newRaw)));
 
-        assertEquals(newHash, ue.getPassword());
+        verify(userRepository).updatePasswordIfUnchanged(1L, currentHash, newHash);
+        verify(userRepository, never()).save(any());
 
-        ArgumentCaptor<UserEntity> cap = ArgumentCaptor.forClass(UserEntity.class);
-        verify(userRepository).save(cap.capture());
-        assertEquals(newHash, cap.getValue().getPassword());
+        // One verification and one encode, the new password is never checked against the hash
+        verify(passwordHasher, times(1)).matches(anyString(), anyString());
+        verify(passwordHasher, never()).matches(newRaw, currentHash);
+    }
+
+    @Test
+    void changePassword_shouldThrowConflict_whenHashChangedAfterVerification() {
+        UserCredentialsView ue = new UserCredentialsView(1L, USERNAME, "HASH_OLD", true);
+
+        when(userRepository.findCredentialsByUsername(USERNAME)).thenReturn(Optional.of(ue));
+        when(passwordHasher.matches("old", "HASH_OLD")).thenReturn(true);
+        when(passwordHasher.encode("new")).thenReturn("HASH_NEW");
+        // A rehash or another change replaced HASH_OLD while the new password was being encoded
+        when(userRepository.updatePasswordIfUnchanged(1L, "HASH_OLD", "HASH_NEW")).thenReturn(0);
+
+        assertThrows(IllegalStateException.class,
+                () -> authService.changePassword(new ChangePasswordRequest(USERNAME, "old", "new")));
     }
 
     @Test
     void changePassword_shouldThrowNotFound_whenUserMissing() {
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.empty());
+        when(userRepository.findCredentialsByUsername(USERNAME)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class,
                 () -> authService.changePassword(new ChangePasswordRequest(USERNAME, "o", "n")));
 
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).updatePasswordIfUnchanged(any(), any(), any());
     }
 
     @Test
     void changePassword_shouldThrow_whenOldPasswordInvalid() {
-        UserEntity ue = new UserEntity();
-        ue.setUsername(USERNAME);
-        ue.setPassword("HASH");
+        UserCredentialsView ue = new UserCredentialsView(1L, USERNAME, "HASH", true);
 
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(ue));
-        when(passwordEncoder.matches("wrong", "HASH")).thenReturn(false);
+        when(userRepository.findCredentialsByUsername(USERNAME)).thenReturn(Optional.of(ue));
+        when(passwordHasher.matches("wrong", "HASH")).thenReturn(false);
 
         assertThrows(BadRequestException.class,
                 () -> authService.changePassword(new ChangePasswordRequest(USERNAME, "wrong", "new")));
 
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).updatePasswordIfUnchanged(any(), any(), any());
     }
 
     @Test
     void changePassword_shouldThrow_whenNewPasswordSameAsOld() {
-        UserEntity ue = new UserEntity();
-        ue.setUsername(USERNAME);
-        ue.setPassword("HASH");
+        UserCredentialsView ue = new UserCredentialsView(1L, USERNAME, "HASH", true);
 
-        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(ue));
+        when(userRepository.findCredentialsByUsername(USERNAME)).thenReturn(Optional.of(ue));
 
-        when(passwordEncoder.matches("old", "HASH")).thenReturn(true);
-        when(passwordEncoder.matches("same", "HASH")).thenReturn(true);
+        when(passwordHasher.matches("old", "HASH")).thenReturn(true);
 
         assertThrows(BadRequestException.class,
-                () -> authService.changePassword(new ChangePasswordRequest(USERNAME, "old", "same")));
+                () -> authService.changePassword(new ChangePasswordRequest(USERNAME, "old", "old")));
 
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).updatePasswordIfUnchanged(any(), any(), any());
+        verify(passwordHasher, times(1)).matches(anyString(), anyString());
+        verify(passwordHasher, never()).encode(anyString());
     }
 }
\ No newline at end of file
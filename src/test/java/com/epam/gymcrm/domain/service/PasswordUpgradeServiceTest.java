@@ -0,0 +1,79 @@
+package com.epam.gymcrm.domain.service;
+
+import com.epam.gymcrm.db.repository.UserRepository;
+import com.epam.gymcrm.domain.exception.TooManyRequestsException;
+import com.epam.gymcrm.infrastructure.security.PasswordHasher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordUpgradeServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String OLD_HASH = "$2a$10$old";
+    private static final String NEW_HASH = "$2a$12$new";
+    private static final String RAW = "secret";
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    private PasswordUpgradeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PasswordUpgradeService(userRepository, passwordHasher, Runnable::run);
+    }
+
+    @Test
+    void upgradeIfNeeded_shouldDoNothing_whenCostMatches() {
+        when(passwordHasher.needsRehash(OLD_HASH)).thenReturn(false);
+
+        assertFalse(service.upgradeIfNeeded(USER_ID, OLD_HASH, RAW).join());
+
+        verify(passwordHasher, never()).encodeAsync(anyString());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void upgradeIfNeeded_shouldStoreNewHash_whenStoredHashUnchanged() {
+        when(passwordHasher.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHasher.encodeAsync(RAW)).thenReturn(CompletableFuture.completedFuture(NEW_HASH));
+        when(userRepository.updatePasswordIfUnchanged(USER_ID, OLD_HASH, NEW_HASH)).thenReturn(1);
+
+        assertTrue(service.upgradeIfNeeded(USER_ID, OLD_HASH, RAW).join());
+
+        verify(userRepository).updatePasswordIfUnchanged(USER_ID, OLD_HASH, NEW_HASH);
+    }
+
+    @Test
+    void upgradeIfNeeded_shouldKeepConcurrentPasswordChange() {
+        when(passwordHasher.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHasher.encodeAsync(RAW)).thenReturn(CompletableFuture.completedFuture(NEW_HASH));
+        // The stored hash no longer matches OLD_HASH, so the conditional update touches nothing
+        when(userRepository.updatePasswordIfUnchanged(USER_ID, OLD_HASH, NEW_HASH)).thenReturn(0);
+
+        assertFalse(service.upgradeIfNeeded(USER_ID, OLD_HASH, RAW).join());
+    }
+
+    @Test
+    void upgradeIfNeeded_shouldSkip_whenHashingPoolSaturated() {
+        when(passwordHasher.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHasher.encodeAsync(RAW))
+                .thenReturn(CompletableFuture.failedFuture(new TooManyRequestsException("busy", 1)));
+
+        assertFalse(service.upgradeIfNeeded(USER_ID, OLD_HASH, RAW).join());
+
+        verifyNoInteractions(userRepository);
+    }
+}
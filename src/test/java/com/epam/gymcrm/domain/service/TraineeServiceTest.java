@@ -7,6 +7,7 @@ import com.epam.gymcrm.db.repository.TraineeRepository;
 import com.epam.gymcrm.db.repository.TrainerRepository;
 import com.epam.gymcrm.db.repository.TrainingRepository;
 import com.epam.gymcrm.db.repository.UserRepository;
+import com.epam.gymcrm.db.repository.projection.TraineeTrainingView;
 import com.epam.gymcrm.domain.model.User;
 import com.epam.gymcrm.domain.exception.BadRequestException;
 import com.epam.gymcrm.domain.exception.NotFoundException;
@@ -18,17 +19,22 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -316,8 +322,7 @@ class TraineeServiceTest {
         List<TrainerEntity> trainers = getTrainerEntities();
 
         when(traineeRepository.findByUserUsernameWithTrainers(traineeUsername)).thenReturn(Optional.of(traineeEntity));
-        when(trainerRepository.findAllByUserUsernameIn(any())).thenReturn(trainers);
-        when(traineeRepository.save(any(TraineeEntity.class))).thenReturn(traineeEntity);
+        when(trainerRepository.findAllWithUserByUserUsernameIn(any())).thenReturn(trainers);
 
         TraineeTrainerUpdateResponse response = traineeService.updateTraineeTrainers(request);
 
@@ -329,12 +334,93 @@ class TraineeServiceTest {
         assertEquals("Ayşe", response.trainers().get(1).trainerFirstName());
 
         verify(traineeRepository).findByUserUsernameWithTrainers(traineeUsername);
-        verify(trainerRepository).findAllByUserUsernameIn(List.of("trainer1", "trainer2"));
-        verify(traineeRepository).save(any(TraineeEntity.class));
+        verify(trainerRepository).findAllWithUserByUserUsernameIn(List.of("trainer1", "trainer2"));
+        assertEquals(new HashSet<>(trainers), traineeEntity.getTrainers());
+    }
+
+    @Test
+    void updateTraineeTrainers_shouldOnlyAddAndRemoveChangedTrainers_inTheManagedSet() {
+        List<TrainerEntity> trainers = getTrainerEntities();
+        TrainerEntity kept = trainers.get(0);
+        TrainerEntity leaving = new TrainerEntity();
+        leaving.setId(99L);
+
+        HashSet<TrainerEntity> assigned = new HashSet<>(List.of(kept, leaving));
+        traineeEntity.setTrainers(assigned);
+        TraineeTrainerUpdateRequest request = new TraineeTrainerUpdateRequest("ali.veli",
+                List.of(new TrainerUsernameRequest("trainer1"), new TrainerUsernameRequest("trainer2")));
+
+        when(traineeRepository.findByUserUsernameWithTrainers("ali.veli")).thenReturn(Optional.of(traineeEntity));
+        when(trainerRepository.findAllWithUserByUserUsernameIn(any())).thenReturn(trainers);
+
+        traineeService.updateTraineeTrainers(request);
+
+        // Same collection instance, so Hibernate writes row deletes and inserts instead of recreating it
+        assertSame(assigned, traineeEntity.getTrainers());
+        assertEquals(new HashSet<>(trainers), assigned);
+        verify(traineeRepository, never()).save(any());
+        verify(metrics).incrementTrainerUpdated();
+    }
+
+    @Test
+    void reassignTrainer_shouldMoveAllTrainees_whenNoTraineesListed() {
+        List<TrainerEntity> trainers = getTrainerEntities();
+        when(trainerRepository.findByUserUsername("trainer1")).thenReturn(Optional.of(trainers.get(0)));
+        when(trainerRepository.findByUserUsername("trainer2")).thenReturn(Optional.of(trainers.get(1)));
+        when(traineeRepository.reassignTrainer(21L, 22L, null)).thenReturn(7);
+
+        TrainerReassignResponse response = traineeService.reassignTrainer(
+                new TrainerReassignRequest("trainer1", "trainer2", null));
+
+        assertEquals(7, response.reassignedTrainees());
+        verify(metrics).incrementTrainerReassigned(7);
+        verify(traineeRepository, never()).findIdsByUserUsernameIn(any());
+    }
+
+    @Test
+    void reassignTrainer_shouldMoveListedTrainees() {
+        List<TrainerEntity> trainers = getTrainerEntities();
+        when(trainerRepository.findByUserUsername("trainer1")).thenReturn(Optional.of(trainers.get(0)));
+        when(trainerRepository.findByUserUsername("trainer2")).thenReturn(Optional.of(trainers.get(1)));
+        when(traineeRepository.findIdsByUserUsernameIn(any())).thenReturn(List.of(1L, 2L));
+        when(traineeRepository.reassignTrainer(21L, 22L, List.of(1L, 2L))).thenReturn(2);
+
+        TrainerReassignResponse response = traineeService.reassignTrainer(
+                new TrainerReassignRequest("trainer1", "trainer2", List.of("ali.veli", "ayse.kara", "ali.veli")));
+
+        assertEquals(2, response.reassignedTrainees());
+    }
+
+    @Test
+    void reassignTrainer_shouldThrowNotFound_whenListedTraineeIsMissing() {
+        List<TrainerEntity> trainers = getTrainerEntities();
+        when(trainerRepository.findByUserUsername("trainer1")).thenReturn(Optional.of(trainers.get(0)));
+        when(trainerRepository.findByUserUsername("trainer2")).thenReturn(Optional.of(trainers.get(1)));
+        when(traineeRepository.findIdsByUserUsernameIn(any())).thenReturn(List.of(1L));
+
+        assertThrows(NotFoundException.class, () -> traineeService.reassignTrainer(
+                new TrainerReassignRequest("trainer1", "trainer2", List.of("ali.veli", "ghost"))));
+        verify(traineeRepository, never()).reassignTrainer(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void reassignTrainer_shouldRejectSameTrainer() {
+        assertThrows(BadRequestException.class, () -> traineeService.reassignTrainer(
+                new TrainerReassignRequest("trainer1", "trainer1", null)));
+        verifyNoInteractions(trainerRepository);
+    }
+
+    @Test
+    void reassignTrainer_shouldThrowNotFound_whenTrainerIsMissing() {
+        when(trainerRepository.findByUserUsername("gone")).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> traineeService.reassignTrainer(
+                new TrainerReassignRequest("gone", "trainer2", null)));
     }
 
     private static List<TrainerEntity> getTrainerEntities() {
         TrainerEntity trainer1 = new TrainerEntity();
+        trainer1.setId(21L);
         UserEntity trainerUser1 = new UserEntity();
         trainerUser1.setUsername("trainer1");
         trainerUser1.setFirstName("Ahmet");
@@ -347,6 +433,7 @@ class TraineeServiceTest {
 
         // trainer2
         TrainerEntity trainer2 = new TrainerEntity();
+        trainer2.setId(22L);
         UserEntity trainerUser2 = new UserEntity();
         trainerUser2.setUsername("trainer2");
         trainerUser2.setFirstName("Ayşe");
@@ -382,38 +469,84 @@ class TraineeServiceTest {
 	@Test
     void getTraineeTrainings_shouldReturnList_whenTraineeExists() {
         String username = "ali.veli";
-        TraineeEntity traineeEntity = new TraineeEntity();
-        when(traineeRepository.findByUserUsernameWithTrainers(username))
-                .thenReturn(Optional.of(traineeEntity));
+        when(traineeRepository.existsByUserUsername(username)).thenReturn(true);
 
         // Filter
         TraineeTrainingsFilter filter = new TraineeTrainingsFilter(
                 username, "2024-01-01", "2024-07-31", "Ahmet", "Strength"
         );
 
-        TrainingEntity training = new TrainingEntity();
-        training.setTrainingName("Push Day");
-        training.setTrainingDate(LocalDateTime.of(2024, 6, 20, 0, 0, 0));
-
-        List<TrainingEntity> trainingEntities = List.of(training);
-        when(trainingRepository.findAll(any(Specification.class)))
-                .thenReturn(trainingEntities);
+        TraineeTrainingView training = new TraineeTrainingView(
+                1L, "Push Day", LocalDateTime.of(2024, 6, 20, 0, 0, 0), "Strength", 60, "Ahmet", "Yilmaz");
+        when(trainingRepository.findTraineeTrainingViews(any(Specification.class), any(Sort.class), eq(Limit.unlimited())))
+                .thenReturn(List.of(training));
 
         TraineeTrainingsListResponse response = traineeService.getTraineeTrainings(filter);
 
         assertNotNull(response);
         assertEquals(1, response.trainings().size());
         assertEquals("Push Day", response.trainings().get(0).trainingName());
+        assertEquals("Ahmet Yilmaz", response.trainings().get(0).trainerName());
+        assertNull(response.nextCursor());
 
-        verify(traineeRepository).findByUserUsernameWithTrainers(username);
-        verify(trainingRepository).findAll(any(Specification.class));
+        verify(traineeRepository).existsByUserUsername(username);
+        verify(trainingRepository, never()).findAll(any(Specification.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void getTraineeTrainings_shouldReturnNextCursor_whenMoreRowsThanLimit() {
+        String username = "ali.veli";
+        TraineeTrainingsFilter filter = new TraineeTrainingsFilter(username, null, null, null, null, null, 1);
+
+        LocalDateTime date = LocalDateTime.of(2024, 6, 20, 10, 0);
+        when(traineeRepository.existsByUserUsername(username)).thenReturn(true);
+        when(trainingRepository.findTraineeTrainingViews(any(Specification.class), any(Sort.class), eq(Limit.of(2))))
+                .thenReturn(List.of(view(7L, date), view(8L, date.plusDays(1))));
+
+        TraineeTrainingsListResponse response = traineeService.getTraineeTrainings(filter);
+
+        assertEquals(1, response.trainings().size());
+        assertEquals(new TrainingCursor(date, 7L), TrainingCursor.decode(response.nextCursor()));
+    }
+
+    @Test
+    void getTraineeTrainings_shouldThrowBadRequest_whenLimitOutOfRange() {
+        String username = "ali.veli";
+        TraineeTrainingsFilter filter = new TraineeTrainingsFilter(
+                username, null, null, null, null, null, TrainingCursor.MAX_PAGE_SIZE + 1);
+
+        when(traineeRepository.existsByUserUsername(username)).thenReturn(true);
+
+        assertThrows(BadRequestException.class, () -> traineeService.getTraineeTrainings(filter));
+        verifyNoInteractions(trainingRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void streamTraineeTrainings_shouldWriteEveryRowInOrder() {
+        String username = "ali.veli";
+        TraineeTrainingsFilter filter = new TraineeTrainingsFilter(username, null, null, null, null);
+
+        LocalDateTime date = LocalDateTime.of(2024, 6, 20, 10, 0);
+        when(traineeRepository.existsByUserUsername(username)).thenReturn(true);
+        when(trainingRepository.streamTraineeTrainingViews(any(Specification.class), any(Sort.class)))
+                .thenReturn(Stream.of(view(1L, date), view(2L, date.plusDays(1))));
+
+        List<TraineeTrainingInfo> written = new ArrayList<>();
+        traineeService.streamTraineeTrainings(filter, written::add);
+
+        assertThat(written).extracting(TraineeTrainingInfo::trainingName).containsExactly("Training 1", "Training 2");
+    }
+
+    private static TraineeTrainingView view(Long id, LocalDateTime date) {
+        return new TraineeTrainingView(id, "Training " + id, date, "Strength", 60, "Ahmet", "Yilmaz");
     }
 
     @Test
     void getTraineeTrainings_shouldThrowNotFoundException_whenTraineeNotExists() {
         String username = "notfound.user";
-        when(traineeRepository.findByUserUsernameWithTrainers(username))
-                .thenReturn(Optional.empty());
+        when(traineeRepository.existsByUserUsername(username)).thenReturn(false);
 
         TraineeTrainingsFilter filter = new TraineeTrainingsFilter(
                 username, null, null, null, null
@@ -423,7 +556,7 @@ class TraineeServiceTest {
             traineeService.getTraineeTrainings(filter);
         });
 
-        verify(traineeRepository).findByUserUsernameWithTrainers(username);
+        verify(traineeRepository).existsByUserUsername(username);
         verifyNoInteractions(trainingRepository);
     }
 
@@ -2,10 +2,12 @@ package com.epam.gymcrm.domain.service;
 
 import com.epam.gymcrm.api.payload.request.TrainerRegistrationRequest;
 import com.epam.gymcrm.api.payload.request.TrainerTrainingsFilter;
+import com.epam.gymcrm.api.payload.request.TrainingCursor;
 import com.epam.gymcrm.api.payload.request.UpdateActiveStatusRequest;
 import com.epam.gymcrm.api.payload.request.UpdateTrainerProfileRequest;
 import com.epam.gymcrm.api.payload.response.TrainerProfileResponse;
 import com.epam.gymcrm.api.payload.response.TrainerRegistrationResponse;
+import com.epam.gymcrm.api.payload.response.TrainerTrainingInfo;
 import com.epam.gymcrm.api.payload.response.TrainerTrainingsListResponse;
 import com.epam.gymcrm.api.payload.response.UpdateTrainerProfileResponse;
 import com.epam.gymcrm.db.entity.TrainerEntity;
@@ -13,10 +15,12 @@ import com.epam.gymcrm.db.entity.TrainingEntity;
 import com.epam.gymcrm.db.entity.TrainingTypeEntity;
 import com.epam.gymcrm.db.entity.UserEntity;
 import com.epam.gymcrm.db.repository.*;
+import com.epam.gymcrm.db.repository.projection.TrainerTrainingView;
 import com.epam.gymcrm.domain.exception.BadRequestException;
 import com.epam.gymcrm.domain.exception.NotFoundException;
 import com.epam.gymcrm.domain.mapper.TrainerDomainMapper;
 import com.epam.gymcrm.domain.model.Trainer;
+import com.epam.gymcrm.domain.model.TrainingType;
 import com.epam.gymcrm.domain.model.User;
 import com.epam.gymcrm.infrastructure.monitoring.metrics.TrainerMetrics;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,16 +31,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,7 +56,7 @@ class TrainerServiceTest {
     private TrainerRepository trainerRepository;
 
     @Mock
-    private TrainingTypeRepository trainingTypeRepository;
+    private TrainingTypeService trainingTypeService;
 
     @Mock
     private UserRepository userRepository;
@@ -91,10 +101,10 @@ class TrainerServiceTest {
     void createTrainer_shouldRegisterTrainer_whenValidRequest() {
         TrainerRegistrationRequest request = new TrainerRegistrationRequest("Ali", "Veli", 1L);
 
-        TrainingTypeEntity specialization = new TrainingTypeEntity();
+        TrainingType specialization = new TrainingType();
         specialization.setId(1L);
         specialization.setTrainingTypeName("Fitness");
-        when(trainingTypeRepository.findById(1L)).thenReturn(Optional.of(specialization));
+        when(trainingTypeService.findById(1L)).thenReturn(Optional.of(specialization));
 
         com.epam.gymcrm.domain.model.User newUser = new com.epam.gymcrm.domain.model.User();
         newUser.setUsername("ali.veli");
@@ -121,8 +131,9 @@ class TrainerServiceTest {
         verify(trainerRepository).save(captor.capture());
         TrainerEntity toSave = captor.getValue();
         assertThat(toSave.getUser()).isNotNull();
+        assertEquals(1L, toSave.getTrainingType().getId());
 
-        verify(trainingTypeRepository).findById(1L);
+        verify(trainingTypeService).findById(1L);
         verify(userAccountService).createUser("Ali", "Veli");
         verify(traineeRepository).existsByUserUsername("ali.veli");
         verify(metrics).incrementRegistered();
@@ -132,12 +143,12 @@ class TrainerServiceTest {
     void createTrainer_shouldThrowNotFoundException_whenSpecializationNotFound() {
         TrainerRegistrationRequest request = new TrainerRegistrationRequest("Ali", "Veli", 99L);
 
-        when(trainingTypeRepository.findById(99L)).thenReturn(Optional.empty());
+        when(trainingTypeService.findById(99L)).thenReturn(Optional.empty());
 
         NotFoundException ex = assertThrows(NotFoundException.class, () -> trainerService.createTrainer(request));
 
         assertTrue(ex.getMessage().contains("Specialization (training type) not found"));
-        verify(trainingTypeRepository).findById(99L);
+        verify(trainingTypeService).findById(99L);
         verifyNoInteractions(trainerRepository);
     }
 
@@ -145,10 +156,10 @@ class TrainerServiceTest {
     void createTrainer_shouldThrowBadRequest_whenUserIsTrainee() {
         TrainerRegistrationRequest request = new TrainerRegistrationRequest("Ali", "Veli", 1L);
 
-        TrainingTypeEntity specialization = new TrainingTypeEntity();
+        TrainingType specialization = new TrainingType();
         specialization.setId(1L);
         specialization.setTrainingTypeName("Fitness");
-        when(trainingTypeRepository.findById(1L)).thenReturn(Optional.of(specialization));
+        when(trainingTypeService.findById(1L)).thenReturn(Optional.of(specialization));
 
         com.epam.gymcrm.domain.model.User newUser = new com.epam.gymcrm.domain.model.User();
         newUser.setUsername("ali.veli");
@@ -162,7 +173,7 @@ class TrainerServiceTest {
 
         assertTrue(ex.getMessage().contains("User cannot be both trainer and trainee"));
 
-        verify(trainingTypeRepository).findById(1L);
+        verify(trainingTypeService).findById(1L);
         verify(userAccountService).createUser("Ali", "Veli");
         verify(traineeRepository).existsByUserUsername("ali.veli");
         verify(trainerRepository, never()).save(any());
@@ -314,14 +325,9 @@ class TrainerServiceTest {
         TrainerEntity trainerEntity = new TrainerEntity();
         trainerEntity.setUser(user);
 
-        TrainingEntity trainingEntity = new TrainingEntity();
-        trainingEntity.setId(100L);
-        trainingEntity.setTrainingName("Push Day");
-        trainingEntity.setTrainingDate(LocalDateTime.now());
-
-        when(trainerRepository.findByUserUsernameWithTrainees(username)).thenReturn(Optional.of(trainerEntity));
-        when(trainingRepository.findAll(any(Specification.class)))
-                .thenReturn(List.of(trainingEntity));
+        when(trainerRepository.existsByUserUsername(username)).thenReturn(true);
+        when(trainingRepository.findTrainerTrainingViews(any(Specification.class), any(Sort.class), eq(Limit.unlimited())))
+                .thenReturn(List.of(view(100L, LocalDateTime.now())));
 
         // Act
         TrainerTrainingsListResponse response = trainerService.getTrainerTrainings(filter);
@@ -329,10 +335,94 @@ class TrainerServiceTest {
         // Assert
         assertNotNull(response);
         assertFalse(response.trainings().isEmpty());
-        assertEquals("Push Day", response.trainings().getFirst().trainingName());
+        assertEquals("Training 100", response.trainings().getFirst().trainingName());
+        assertEquals("Ali Veli", response.trainings().getFirst().traineeName());
+        assertNull(response.nextCursor());
+
+        verify(trainerRepository).existsByUserUsername(username);
+        verify(trainingRepository, never()).findAll(any(Specification.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void getTrainerTrainings_shouldReturnNextCursor_whenMoreRowsThanLimit() {
+        String username = "ali.veli";
+        TrainerTrainingsFilter filter = new TrainerTrainingsFilter(username, null, null, null, null, 2);
+
+        LocalDateTime date = LocalDateTime.of(2024, 6, 20, 10, 0);
+        List<TrainerTrainingView> rows = List.of(view(1L, date), view(2L, date), view(3L, date.plusDays(1)));
+
+        when(trainerRepository.existsByUserUsername(username)).thenReturn(true);
+        when(trainingRepository.findTrainerTrainingViews(any(Specification.class), any(Sort.class), eq(Limit.of(3))))
+                .thenReturn(rows);
+
+        TrainerTrainingsListResponse response = trainerService.getTrainerTrainings(filter);
+
+        assertEquals(2, response.trainings().size());
+        assertEquals(new TrainingCursor(date, 2L), TrainingCursor.decode(response.nextCursor()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void getTrainerTrainings_shouldOmitNextCursor_onLastPage() {
+        String username = "ali.veli";
+        TrainerTrainingsFilter filter = new TrainerTrainingsFilter(
+                username, null, null, null, new TrainingCursor(LocalDateTime.of(2024, 6, 20, 10, 0), 2L).encode(), null);
+
+        when(trainerRepository.existsByUserUsername(username)).thenReturn(true);
+        when(trainingRepository.findTrainerTrainingViews(any(Specification.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(List.of(view(3L, LocalDateTime.of(2024, 6, 21, 10, 0))));
+
+        TrainerTrainingsListResponse response = trainerService.getTrainerTrainings(filter);
+
+        assertEquals(1, response.trainings().size());
+        assertNull(response.nextCursor());
+    }
+
+    @Test
+    void getTrainerTrainings_shouldThrowBadRequest_whenCursorMalformed() {
+        String username = "ali.veli";
+        TrainerTrainingsFilter filter = new TrainerTrainingsFilter(username, null, null, null, "not-a-cursor", null);
+
+        when(trainerRepository.existsByUserUsername(username)).thenReturn(true);
+
+        assertThrows(BadRequestException.class, () -> trainerService.getTrainerTrainings(filter));
+        verifyNoInteractions(trainingRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void streamTrainerTrainings_shouldWriteEveryRowAndCloseStream() {
+        String username = "ali.veli";
+        TrainerTrainingsFilter filter = new TrainerTrainingsFilter(username, null, null, null);
+
+        LocalDateTime date = LocalDateTime.of(2024, 6, 20, 10, 0);
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<TrainerTrainingView> rows = Stream.of(view(1L, date), view(2L, date.plusDays(1)))
+                .onClose(() -> closed.set(true));
+
+        when(trainerRepository.existsByUserUsername(username)).thenReturn(true);
+        when(trainingRepository.streamTrainerTrainingViews(any(Specification.class), any(Sort.class))).thenReturn(rows);
+
+        List<TrainerTrainingInfo> written = new ArrayList<>();
+        trainerService.streamTrainerTrainings(filter, written::add);
+
+        assertEquals(2, written.size());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void streamTrainerTrainings_shouldThrowNotFound_whenTrainerNotExists() {
+        TrainerTrainingsFilter filter = new TrainerTrainingsFilter("not.found", null, null, null);
+
+        when(trainerRepository.existsByUserUsername("not.found")).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> trainerService.streamTrainerTrainings(filter, info -> {}));
+        verifyNoInteractions(trainingRepository);
+    }
 
-        verify(trainerRepository).findByUserUsernameWithTrainees(username);
-        verify(trainingRepository).findAll(any(Specification.class));
+    private static TrainerTrainingView view(Long id, LocalDateTime date) {
+        return new TrainerTrainingView(id, "Training " + id, date, "Strength", 60, "Ali", "Veli");
     }
 
     @Test
@@ -341,13 +431,13 @@ class TrainerServiceTest {
         String username = "not.found";
         TrainerTrainingsFilter filter = new TrainerTrainingsFilter(username, "2024-01-01", "2024-08-01", "Ahmet");
 
-        when(trainerRepository.findByUserUsernameWithTrainees(username)).thenReturn(Optional.empty());
+        when(trainerRepository.existsByUserUsername(username)).thenReturn(false);
 
         // Act & Assert
         NotFoundException ex = assertThrows(NotFoundException.class, () -> trainerService.getTrainerTrainings(filter));
         assertTrue(ex.getMessage().contains("Trainer not found"));
 
-        verify(trainerRepository).findByUserUsernameWithTrainees(username);
+        verify(trainerRepository).existsByUserUsername(username);
     }
 
     @Test
@@ -0,0 +1,132 @@
+package com.epam.gymcrm.domain.service;
+
+import com.epam.gymcrm.api.payload.request.AddTrainingRequest;
+import com.epam.gymcrm.api.payload.request.TrainingImportRow;
+import com.epam.gymcrm.api.payload.response.TrainingImportRowError;
+import com.epam.gymcrm.db.entity.TraineeEntity;
+import com.epam.gymcrm.db.entity.TrainerEntity;
+import com.epam.gymcrm.db.entity.TrainingEntity;
+import com.epam.gymcrm.db.entity.TrainingTypeEntity;
+import com.epam.gymcrm.db.entity.UserEntity;
+import com.epam.gymcrm.db.repository.TraineeRepository;
+import com.epam.gymcrm.db.repository.TrainerRepository;
+import com.epam.gymcrm.db.repository.TrainingRepository;
+import com.epam.gymcrm.db.repository.projection.TrainingSlotView;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingImportChunkWriterTest {
+
+    @Mock
+    private TraineeRepository traineeRepository;
+    @Mock
+    private TrainerRepository trainerRepository;
+    @Mock
+    private TrainingRepository trainingRepository;
+    @Mock
+    private EntityManager entityManager;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private TrainingImportChunkWriter writer;
+
+    private TraineeEntity trainee;
+    private TrainerEntity trainer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new TrainingImportChunkWriter(traineeRepository, trainerRepository, trainingRepository,
+                validator, entityManager);
+
+        UserEntity traineeUser = new UserEntity("Ali", "Veli", "ali.veli", "x", true);
+        trainee = new TraineeEntity();
+        trainee.setId(1L);
+        trainee.setUser(traineeUser);
+
+        TrainingTypeEntity type = new TrainingTypeEntity();
+        type.setId(3L);
+        type.setTrainingTypeName("Cardio");
+        UserEntity trainerUser = new UserEntity("Jane", "Smith", "jane.smith", "x", true);
+        trainer = new TrainerEntity();
+        trainer.setId(2L);
+        trainer.setUser(trainerUser);
+        trainer.setTrainingType(type);
+    }
+
+    private static TrainingImportRow row(int line, String trainee, String trainer, String date, Integer duration) {
+        return new TrainingImportRow(line, new AddTrainingRequest(trainee, trainer, "Session", date, duration));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void write_shouldSaveValidRowsAndReportInvalidOnes() {
+        when(traineeRepository.findAllWithTrainersByUserUsernameIn(any())).thenReturn(List.of(trainee));
+        when(trainerRepository.findAllWithUserByUserUsernameIn(any())).thenReturn(List.of(trainer));
+
+        List<TrainingImportRow> rows = List.of(
+                row(1, "ali.veli", "jane.smith", "2025-08-01 10:00:00", 60),
+                row(2, "ali.veli", "jane.smith", "2025-08-01 10:30:00", 60),
+                row(3, "ghost", "jane.smith", "2025-08-01 12:00:00", 60),
+                row(4, "ali.veli", "jane.smith", "01-08-2025", 60),
+                row(5, "ali.veli", "jane.smith", "2025-08-01 14:00:00", null)
+        );
+
+        TrainingImportChunkWriter.ChunkResult result = writer.write(rows);
+
+        assertEquals(1, result.imported());
+        assertEquals(List.of(2, 3, 4, 5), result.errors().stream().map(TrainingImportRowError::line).sorted().toList());
+
+        ArgumentCaptor<List<TrainingEntity>> saved = ArgumentCaptor.forClass(List.class);
+        verify(trainingRepository).saveAll(saved.capture());
+        TrainingEntity training = saved.getValue().get(0);
+        assertSame(trainer.getTrainingType(), training.getTrainingType());
+        assertTrue(trainee.getTrainers().contains(trainer));
+        // One window covering the parsable rows
+        verify(trainingRepository).findSlotsOverlapping(List.of(2L),
+                LocalDateTime.of(2025, 8, 1, 10, 0), LocalDateTime.of(2025, 8, 1, 13, 0));
+        verify(trainingRepository).flush();
+        verify(entityManager).clear();
+    }
+
+    @Test
+    void write_shouldRejectRow_whenDatabaseHasOverlappingBooking() {
+        when(traineeRepository.findAllWithTrainersByUserUsernameIn(any())).thenReturn(List.of(trainee));
+        when(trainerRepository.findAllWithUserByUserUsernameIn(any())).thenReturn(List.of(trainer));
+        when(trainingRepository.findSlotsOverlapping(any(), any(), any())).thenReturn(List.of(
+                new TrainingSlotView(9L, 2L, LocalDateTime.of(2025, 8, 1, 10, 15), 30),
+                new TrainingSlotView(10L, 2L, LocalDateTime.of(2025, 8, 1, 15, 0), 0)));
+
+        TrainingImportChunkWriter.ChunkResult result = writer.write(List.of(
+                row(1, "ali.veli", "jane.smith", "2025-08-01 10:00:00", 60),
+                row(2, "ali.veli", "jane.smith", "2025-08-01 11:00:00", 60),
+                row(3, "ali.veli", "jane.smith", "2025-08-01 14:00:00", 60),
+                row(4, "ali.veli", "jane.smith", "2025-08-01 15:00:00", 30)));
+
+        // Back-to-back is fine, a zero-length training still occupies its start
+        assertEquals(2, result.imported());
+        assertEquals(List.of(1, 4), result.errors().stream().map(TrainingImportRowError::line).toList());
+    }
+
+    @Test
+    void write_shouldSkipLookups_whenNoRowPassesValidation() {
+        TrainingImportChunkWriter.ChunkResult result = writer.write(List.of(row(1, "", "jane.smith", "2025-08-01 10:00:00", 60)));
+
+        assertEquals(0, result.imported());
+        assertEquals(1, result.errors().size());
+        verifyNoInteractions(traineeRepository, trainerRepository);
+    }
+}
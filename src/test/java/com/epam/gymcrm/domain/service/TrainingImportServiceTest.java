@@ -0,0 +1,113 @@
+package com.epam.gymcrm.domain.service;
+
+import com.epam.gymcrm.api.payload.request.TrainingImportFormat;
+import com.epam.gymcrm.api.payload.request.TrainingImportRow;
+import com.epam.gymcrm.api.payload.response.TrainingImportResponse;
+import com.epam.gymcrm.api.payload.response.TrainingImportRowError;
+import com.epam.gymcrm.domain.exception.BadRequestException;
+import com.epam.gymcrm.infrastructure.monitoring.metrics.TrainingMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingImportServiceTest {
+
+    @Mock
+    private TrainingImportChunkWriter chunkWriter;
+    @Mock
+    private TrainingMetrics metrics;
+
+    private TrainingImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new TrainingImportService(chunkWriter, metrics, new ObjectMapper(), 2);
+    }
+
+    private static InputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importTrainings_shouldWriteNdjsonInChunks() {
+        when(chunkWriter.write(anyList())).thenAnswer(inv ->
+                new TrainingImportChunkWriter.ChunkResult(((List<?>) inv.getArgument(0)).size(), List.of()));
+
+        String ndjson = """
+                {"traineeUsername":"a","trainerUsername":"t","trainingName":"n1","trainingDate":"2025-08-01 10:00:00","trainingDuration":60}
+                {"traineeUsername":"b","trainerUsername":"t","trainingName":"n2","trainingDate":"2025-08-01 12:00:00","trainingDuration":60}
+
+                {"traineeUsername":"c","trainerUsername":"t","trainingName":"n3","trainingDate":"2025-08-01 14:00:00","trainingDuration":60}
+                """;
+
+        TrainingImportResponse response = importService.importTrainings(body(ndjson), TrainingImportFormat.NDJSON);
+
+        ArgumentCaptor<List<TrainingImportRow>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(chunkWriter, times(2)).write(chunks.capture());
+        assertEquals(2, chunks.getAllValues().get(0).size());
+        assertEquals(4, chunks.getAllValues().get(1).get(0).line());
+        assertEquals(3, response.totalRows());
+        assertEquals(3, response.importedRows());
+        assertEquals(0, response.failedRows());
+        verify(metrics).incrementImported(3);
+    }
+
+    @Test
+    void importTrainings_shouldReportMalformedRowsWithoutAborting() {
+        when(chunkWriter.write(anyList())).thenReturn(new TrainingImportChunkWriter.ChunkResult(1, List.of()));
+
+        String csv = """
+                traineeUsername,trainerUsername,trainingName,trainingDate,trainingDuration
+                a,t,"Legs, glutes",2025-08-01 10:00:00,60
+                b,t,Arms,2025-08-01 12:00:00,sixty
+                """;
+
+        TrainingImportResponse response = importService.importTrainings(body(csv), TrainingImportFormat.CSV);
+
+        assertEquals(2, response.totalRows());
+        assertEquals(1, response.importedRows());
+        assertEquals(List.of(new TrainingImportRowError(3, "Invalid trainingDuration: sixty")), response.errors());
+        verify(metrics).incrementImportRejected(1);
+    }
+
+    @Test
+    void importTrainings_shouldRejectEveryRowOfFailedChunk() {
+        when(chunkWriter.write(anyList())).thenThrow(new IllegalStateException("db down"));
+
+        String csv = """
+                traineeUsername,trainerUsername,trainingName,trainingDate,trainingDuration
+                a,t,Push,2025-08-01 10:00:00,60
+                b,t,Pull,2025-08-01 12:00:00,60
+                """;
+
+        TrainingImportResponse response = importService.importTrainings(body(csv), TrainingImportFormat.CSV);
+
+        assertEquals(0, response.importedRows());
+        assertEquals(2, response.failedRows());
+        assertEquals(TrainingImportService.CHUNK_REJECTED, response.errors().get(0).message());
+        assertFalse(response.errors().get(1).message().contains("db down"));
+    }
+
+    @Test
+    void importTrainings_shouldThrowBadRequest_whenCsvHeaderMissingColumn() {
+        InputStream csv = body("traineeUsername,trainerUsername\na,t\n");
+
+        assertThrows(BadRequestException.class, () -> importService.importTrainings(csv, TrainingImportFormat.CSV));
+        verifyNoInteractions(chunkWriter);
+    }
+}
@@ -19,7 +19,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -75,12 +77,13 @@ class TrainingServiceTest {
 
         when(traineeRepository.findByUserUsername("trainee1")).thenReturn(Optional.of(traineeEntity));
         when(trainerRepository.findByUserUsername("trainer1")).thenReturn(Optional.of(trainerEntity));
-        when(trainingRepository.findByTrainerIdAndTrainingDate(eq(2L), any())).thenReturn(Optional.empty());
         doNothing().when(metrics).incrementCreated();
 
         assertDoesNotThrow(() -> trainingService.addTraining(request));
 
-        verify(trainingRepository).save(any(TrainingEntity.class));
+        // The insert itself is the availability check
+        verify(trainingRepository).saveAndFlush(any(TrainingEntity.class));
+        verifyNoMoreInteractions(trainingRepository);
     }
 
     @Test
@@ -106,7 +109,7 @@ class TrainingServiceTest {
         assertThrows(NotFoundException.class, () -> trainingService.addTraining(request));
         verify(traineeRepository).findByUserUsername("trainee1");
         verify(trainerRepository).findByUserUsername("notfound");
-        verify(trainingRepository, never()).save(any());
+        verify(trainingRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -118,7 +121,7 @@ class TrainingServiceTest {
         when(trainerRepository.findByUserUsername("trainer1")).thenReturn(Optional.of(trainerEntity));
 
         assertThrows(BadRequestException.class, () -> trainingService.addTraining(request));
-        verify(trainingRepository, never()).save(any());
+        verify(trainingRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -128,9 +131,23 @@ class TrainingServiceTest {
 
         when(traineeRepository.findByUserUsername("trainee1")).thenReturn(Optional.of(traineeEntity));
         when(trainerRepository.findByUserUsername("trainer1")).thenReturn(Optional.of(trainerEntity));
-        when(trainingRepository.findByTrainerIdAndTrainingDate(eq(2L), any())).thenReturn(Optional.of(new TrainingEntity()));
+        when(trainingRepository.saveAndFlush(any(TrainingEntity.class))).thenThrow(new DataIntegrityViolationException(
+                "trainings_no_overlap", new SQLException("conflicting key value violates exclusion constraint", "23P01")));
 
         assertThrows(TrainerScheduleConflictException.class, () -> trainingService.addTraining(request));
-        verify(trainingRepository, never()).save(any());
+        verify(metrics, never()).incrementCreated();
     }
-}
\ No newline at end of file
+
+    @Test
+    void addTraining_shouldRethrow_whenOtherConstraintViolated() {
+        AddTrainingRequest request = new AddTrainingRequest(
+                "trainee1", "trainer1", "Push Day", "2025-08-01 10:00:00", 60);
+
+        when(traineeRepository.findByUserUsername("trainee1")).thenReturn(Optional.of(traineeEntity));
+        when(trainerRepository.findByUserUsername("trainer1")).thenReturn(Optional.of(trainerEntity));
+        when(trainingRepository.saveAndFlush(any(TrainingEntity.class))).thenThrow(new DataIntegrityViolationException(
+                "fk", new SQLException("violates foreign key constraint", "23503")));
+
+        assertThrows(DataIntegrityViolationException.class, () -> trainingService.addTraining(request));
+    }
+}
@@ -2,7 +2,9 @@ package com.epam.gymcrm.domain.service;
 
 import com.epam.gymcrm.api.payload.response.TrainingTypeListResponse;
 import com.epam.gymcrm.db.entity.TrainingTypeEntity;
+import com.epam.gymcrm.db.listener.TrainingTypesChangedEvent;
 import com.epam.gymcrm.db.repository.TrainingTypeRepository;
+import com.epam.gymcrm.domain.model.TrainingType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -10,10 +12,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Optional;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class TrainingTypeServiceTest {
@@ -44,4 +46,65 @@ class TrainingTypeServiceTest {
         assertEquals(2, response.trainingTypes().size());
         assertEquals("Strength", response.trainingTypes().get(1).name());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findAllTrainingTypes_shouldServeFromSnapshot_afterFirstLoad() {
+        when(trainingTypeRepository.findAll()).thenReturn(List.of(type(1L, "Cardio")));
+
+        trainingTypeService.warmUp();
+        trainingTypeService.findAllTrainingTypes();
+        trainingTypeService.findById(1L);
+        trainingTypeService.findByName("Cardio");
+
+        verify(trainingTypeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void findById_and_findByName_shouldReturnDetachedCopies() {
+        when(trainingTypeRepository.findAll()).thenReturn(List.of(type(1L, "Cardio"), type(2L, "Yoga")));
+
+        TrainingType byId = trainingTypeService.findById(2L).orElseThrow();
+        byId.setTrainingTypeName("changed");
+
+        assertEquals("Yoga", trainingTypeService.findById(2L).orElseThrow().getTrainingTypeName());
+        assertEquals(1L, trainingTypeService.findByName("Cardio").orElseThrow().getId());
+        assertEquals(Optional.empty(), trainingTypeService.findById(99L));
+        assertEquals(Optional.empty(), trainingTypeService.findByName("Pilates"));
+    }
+
+    @Test
+    void onTrainingTypesChanged_shouldReloadOnNextRead_withNewEtag() {
+        when(trainingTypeRepository.findAll())
+                .thenReturn(List.of(type(1L, "Cardio")))
+                .thenReturn(List.of(type(1L, "Cardio"), type(2L, "Yoga")));
+
+        TrainingTypeService.Snapshot before = trainingTypeService.getSnapshot();
+        assertSame(before, trainingTypeService.getSnapshot());
+
+        trainingTypeService.onTrainingTypesChanged(new TrainingTypesChangedEvent(2L));
+        TrainingTypeService.Snapshot after = trainingTypeService.getSnapshot();
+
+        assertEquals(2, after.trainingTypes().trainingTypes().size());
+        assertNotEquals(before.etag(), after.etag());
+        verify(trainingTypeRepository, times(2)).findAll();
+    }
+
+    @Test
+    void getSnapshot_shouldProduceSameEtag_forSameContent() {
+        when(trainingTypeRepository.findAll())
+                .thenReturn(List.of(type(2L, "Yoga"), type(1L, "Cardio")))
+                .thenReturn(List.of(type(1L, "Cardio"), type(2L, "Yoga")));
+
+        String first = trainingTypeService.getSnapshot().etag();
+        trainingTypeService.invalidate();
+
+        assertEquals(first, trainingTypeService.getSnapshot().etag());
+    }
+
+    private static TrainingTypeEntity type(Long id, String name) {
+        TrainingTypeEntity entity = new TrainingTypeEntity();
+        entity.setId(id);
+        entity.setTrainingTypeName(name);
+        return entity;
+    }
+}
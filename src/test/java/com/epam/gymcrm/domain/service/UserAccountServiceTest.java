@@ -2,13 +2,15 @@ package com.epam.gymcrm.domain.service;
 
 import com.epam.gymcrm.db.repository.UserRepository;
 import com.epam.gymcrm.domain.model.User;
+import com.epam.gymcrm.infrastructure.security.CredentialGenerator;
+import com.epam.gymcrm.infrastructure.security.PasswordHasher;
+import com.epam.gymcrm.infrastructure.security.UsernameFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -20,38 +22,51 @@ class UserAccountServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private UsernameFilter usernameFilter;
 
     private UserAccountService service;
 
     @BeforeEach
     void setUp() {
-        service = new UserAccountService(userRepository, passwordEncoder);
+        service = new UserAccountService(userRepository, passwordHasher, usernameFilter, new CredentialGenerator(10, ""));
     }
 
     @Test
-    void generateUniqueUsername_returnsBase_whenAvailable() {
-        when(userRepository.existsByUsername("ali.veli")).thenReturn(false);
+    void generateUniqueUsername_returnsBase_whenFirstOfItsName() {
+        when(userRepository.nextUsernameSuffix("ali.veli")).thenReturn(0L);
 
         String result = service.generateUniqueUsername("Ali", "Veli");
 
         assertEquals("ali.veli", result);
-        verify(userRepository).existsByUsername("ali.veli");
+        verify(userRepository).nextUsernameSuffix("ali.veli");
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void generateUniqueUsername_appendsAllocatedSuffix_withSingleRepositoryCall() {
+        when(userRepository.nextUsernameSuffix("ali.veli")).thenReturn(42L);
+
+        String result = service.generateUniqueUsername("Ali", "Veli");
+
+        assertEquals("ali.veli42", result);
+        verify(userRepository).nextUsernameSuffix("ali.veli");
         verifyNoMoreInteractions(userRepository);
     }
 
     @Test
-    void generateUniqueUsername_appendsCounter_untilAvailable() {
-        when(userRepository.existsByUsername("ali.veli")).thenReturn(true);
+    void generateUniqueUsername_skipsSuffix_takenByAnotherBase() {
+        when(userRepository.nextUsernameSuffix("ali.veli")).thenReturn(1L, 2L);
+        when(usernameFilter.mightExist("ali.veli1")).thenReturn(true);
         when(userRepository.existsByUsername("ali.veli1")).thenReturn(true);
-        when(userRepository.existsByUsername("ali.veli2")).thenReturn(false);
 
         String result = service.generateUniqueUsername("Ali", "Veli");
 
         assertEquals("ali.veli2", result);
-        verify(userRepository).existsByUsername("ali.veli");
+        verify(userRepository, times(2)).nextUsernameSuffix("ali.veli");
         verify(userRepository).existsByUsername("ali.veli1");
-        verify(userRepository).existsByUsername("ali.veli2");
         verifyNoMoreInteractions(userRepository);
     }
 
@@ -70,13 +85,13 @@ class UserAccountServiceTest {
 
     @Test
     void hash_delegatesToPasswordEncoder() {
-        when(passwordEncoder.encode("raw")).thenReturn("ENC");
+        when(passwordHasher.encode("raw")).thenReturn("ENC");
 
         String hashed = service.hash("raw");
 
         assertEquals("ENC", hashed);
-        verify(passwordEncoder).encode("raw");
-        verifyNoMoreInteractions(passwordEncoder);
+        verify(passwordHasher).encode("raw");
+        verifyNoMoreInteractions(passwordHasher);
     }
 
     @Test
@@ -85,7 +100,7 @@ class UserAccountServiceTest {
 
         doReturn("ali.veli").when(spyService).generateUniqueUsername("Ali", "Veli");
         doReturn("RAW_PASS").when(spyService).generateRandomPassword();
-        when(passwordEncoder.encode("RAW_PASS")).thenReturn("ENC_PASS");
+        when(passwordHasher.encode("RAW_PASS")).thenReturn("ENC_PASS");
 
         User u = spyService.createUser("Ali", "Veli");
 
@@ -99,7 +114,8 @@ class UserAccountServiceTest {
 
         verify(spyService).generateUniqueUsername("Ali", "Veli");
         verify(spyService).generateRandomPassword();
-        verify(passwordEncoder).encode("RAW_PASS");
-        verifyNoMoreInteractions(passwordEncoder);
+        verify(passwordHasher).encode("RAW_PASS");
+        verifyNoMoreInteractions(passwordHasher);
+        verify(usernameFilter).add("ali.veli");
     }
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+package com.epam.gymcrm.infrastructure.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Primary and replicas are separate H2 databases, each knowing its own name and a simulated lag.
+ * Transactions go through the same lazy proxy the application configures.
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT seconds FROM replica_lag";
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final List<JdbcTemplate> databases = new ArrayList<>();
+    private ReadReplicaRoutingDataSource replicas;
+
+    @AfterEach
+    void tearDown() {
+        if (replicas != null) replicas.shutdown();
+        databases.forEach(db -> db.execute("SHUTDOWN"));
+    }
+
+    @Test
+    void readOnlyTransaction_shouldUseReplica_andWritesThePrimary() {
+        DataSource primary = database("primary", 0);
+        DataSource routed = routed(primary, replica("replica-1", 0));
+
+        assertEquals("replica-1", nodeName(routed, true));
+        double writesBefore = routedCount("primary", "primary", "read_write");
+        assertEquals("primary", nodeName(routed, false));
+        assertEquals(1.0, routedCount("replica", "replica-1", "healthy"));
+        assertEquals(writesBefore + 1, routedCount("primary", "primary", "read_write"));
+    }
+
+    @Test
+    void readOnlyTransaction_shouldFallBackToPrimary_whileReplicaLagsTooFar() {
+        DataSource primary = database("primary", 0);
+        DataSource replicaDb = database("replica-1", 30);
+        DataSource routed = routed(primary, new ReadReplicaRoutingDataSource.Replica("replica-1", replicaDb));
+
+        assertEquals("primary", nodeName(routed, true));
+        assertEquals(1.0, routedCount("primary", "primary", "no_replica"));
+        assertEquals(30.0, registry.get("db_replica_lag_seconds").tag("replica", "replica-1").gauge().value());
+        assertEquals(0.0, registry.get("db_replica_usable").tag("replica", "replica-1").gauge().value());
+
+        setLag(replicaDb, 1);
+        replicas.probeAll();
+
+        assertEquals("replica-1", nodeName(routed, true));
+        assertEquals(1.0, registry.get("db_replica_usable").tag("replica", "replica-1").gauge().value());
+    }
+
+    @Test
+    void readOnlyTransaction_shouldFallBackToPrimary_whenReplicaReceiverDisconnected() {
+        DataSource replicaDb = database("replica-1", 0);
+        DataSource routed = routed(database("primary", 0), new ReadReplicaRoutingDataSource.Replica("replica-1", replicaDb));
+        assertEquals("replica-1", nodeName(routed, true));
+
+        // A replica cut off from the primary has replayed all it received, the lag query answers NULL
+        new JdbcTemplate(replicaDb).update("UPDATE replica_lag SET seconds = NULL");
+        replicas.probeAll();
+
+        assertEquals("primary", nodeName(routed, true));
+        assertEquals(1.0, routedCount("primary", "primary", "no_replica"));
+        assertTrue(Double.isNaN(registry.get("db_replica_lag_seconds").tag("replica", "replica-1").gauge().value()));
+        assertEquals(0.0, registry.get("db_replica_usable").tag("replica", "replica-1").gauge().value());
+    }
+
+    @Test
+    void readOnlyTransactions_shouldRotateAcrossUsableReplicas() {
+        DataSource routed = routed(database("primary", 0),
+                replica("replica-1", 0), replica("replica-2", 0), replica("replica-3", 60));
+
+        List<String> served = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            served.add(nodeName(routed, true));
+        }
+
+        assertEquals(3, served.stream().filter("replica-1"::equals).count());
+        assertEquals(3, served.stream().filter("replica-2"::equals).count());
+    }
+
+    @Test
+    void readOnlyTransaction_shouldFallBackToPrimary_whenReplicaRefusesConnections() {
+        DataSource replicaDb = database("replica-1", 0);
+        boolean[] down = {false};
+        DataSource flaky = new DriverManagerDataSource() {
+            @Override
+            public java.sql.Connection getConnection() throws SQLException {
+                if (down[0]) throw new SQLException("Connection refused");
+                return replicaDb.getConnection();
+            }
+        };
+        DataSource routed = routed(database("primary", 0), new ReadReplicaRoutingDataSource.Replica("replica-1", flaky));
+
+        down[0] = true;
+        assertEquals("primary", nodeName(routed, true));
+        assertEquals(1.0, routedCount("primary", "primary", "replica_failed"));
+        // Out of rotation until a probe succeeds again
+        assertEquals("primary", nodeName(routed, true));
+        assertEquals(1.0, routedCount("primary", "primary", "no_replica"));
+        assertTrue(Double.isNaN(registry.get("db_replica_lag_seconds").tag("replica", "replica-1").gauge().value()));
+
+        down[0] = false;
+        replicas.probeAll();
+        assertEquals("replica-1", nodeName(routed, true));
+    }
+
+    @Test
+    void explicitCredentials_shouldGoToPrimary() throws SQLException {
+        DataSource primary = database("primary", 0);
+        routed(primary, replica("replica-1", 0));
+
+        try (var connection = replicas.getConnection("sa", "");
+             var rs = connection.createStatement().executeQuery("SELECT name FROM node")) {
+            assertTrue(rs.next());
+            assertEquals("primary", rs.getString(1));
+        }
+    }
+
+    @Test
+    void constructor_shouldRequireAReplica() {
+        DataSource primary = database("primary", 0);
+
+        assertThrows(IllegalArgumentException.class, () -> new ReadReplicaRoutingDataSource(primary, List.of(), registry,
+                LAG_QUERY, Duration.ofSeconds(5), Duration.ofHours(1)));
+    }
+
+    private DataSource routed(DataSource primary, ReadReplicaRoutingDataSource.Replica... replicaList) {
+        replicas = new ReadReplicaRoutingDataSource(primary, List.of(replicaList), registry,
+                LAG_QUERY, Duration.ofSeconds(5), Duration.ofHours(1));
+        return new LazyConnectionDataSourceProxy(replicas);
+    }
+
+    private ReadReplicaRoutingDataSource.Replica replica(String name, double lagSeconds) {
+        return new ReadReplicaRoutingDataSource.Replica(name, database(name, lagSeconds));
+    }
+
+    private String nodeName(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private double routedCount(String route, String target, String reason) {
+        return registry.get("db_read_routing_total")
+                .tag("route", route).tag("target", target).tag("reason", reason)
+                .counter().count();
+    }
+
+    private DataSource database(String name, double lagSeconds) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(32))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        jdbc.execute("CREATE TABLE replica_lag (seconds DOUBLE PRECISION)");
+        jdbc.update("INSERT INTO replica_lag VALUES (?)", lagSeconds);
+        databases.add(jdbc);
+        return dataSource;
+    }
+
+    private static void setLag(DataSource dataSource, double seconds) {
+        new JdbcTemplate(dataSource).update("UPDATE replica_lag SET seconds = ?", seconds);
+    }
+}
@@ -0,0 +1,91 @@
+package com.epam.gymcrm.infrastructure.monitoring.cache;
+
+import com.epam.gymcrm.db.cache.CacheRegions;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheEndpointTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    @Mock
+    private CacheRegionStatistics userStats;
+
+    @Mock
+    private Cache cache;
+
+    private SecondLevelCacheEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        endpoint = new SecondLevelCacheEndpoint(entityManagerFactory);
+    }
+
+    @Test
+    void regions_shouldReportStatisticsOfKnownRegions() {
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(statistics.getCacheRegionStatistics(anyString())).thenReturn(null);
+        when(statistics.getCacheRegionStatistics(CacheRegions.USERS)).thenReturn(userStats);
+        when(userStats.getHitCount()).thenReturn(7L);
+        when(userStats.getMissCount()).thenReturn(3L);
+        when(userStats.getPutCount()).thenReturn(3L);
+
+        Map<String, SecondLevelCacheEndpoint.RegionStats> regions = endpoint.regions();
+
+        assertThat(regions).containsOnlyKeys(CacheRegions.USERS);
+        assertThat(regions.get(CacheRegions.USERS)).isEqualTo(new SecondLevelCacheEndpoint.RegionStats(7, 3, 3));
+    }
+
+    @Test
+    void evictRegion_shouldEvictKnownRegion() {
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        WebEndpointResponse<Void> response = endpoint.evictRegion(CacheRegions.TRAINERS);
+
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_NO_CONTENT);
+        verify(cache).evictRegion(CacheRegions.TRAINERS);
+    }
+
+    @Test
+    void evictRegion_shouldReturnNotFound_whenRegionUnknown() {
+        WebEndpointResponse<Void> response = endpoint.evictRegion("unknown");
+
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        verify(sessionFactory, never()).getCache();
+    }
+
+    @Test
+    void evictAll_shouldEvictEveryRegion() {
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        endpoint.evictAll();
+
+        verify(cache).evictAllRegions();
+    }
+}
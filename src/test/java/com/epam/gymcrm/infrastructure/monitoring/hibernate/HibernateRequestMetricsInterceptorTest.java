@@ -0,0 +1,62 @@
+package com.epam.gymcrm.infrastructure.monitoring.hibernate;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HibernateRequestMetricsInterceptorTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final HibernateRequestMetricsInterceptor interceptor = new HibernateRequestMetricsInterceptor(registry, 20);
+
+    @Test
+    void request_shouldRecordOperationsTaggedByEndpoint() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/trainees/ali.veli");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/trainees/{username}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        RequestStatistics current = RequestStatistics.current();
+        current.statementPrepared();
+        current.statementPrepared();
+        current.collectionFetched("TraineeEntity.trainers");
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertNull(RequestStatistics.current());
+        assertEquals(2, summary("GET", "/api/v1/trainees/{username}", "statement").totalAmount());
+        assertEquals(1, summary("GET", "/api/v1/trainees/{username}", "collection_fetch").totalAmount());
+        assertEquals(0, summary("GET", "/api/v1/trainees/{username}", "cache_hit").totalAmount());
+    }
+
+    @Test
+    void requestWithoutMatchedPattern_shouldBeTaggedUnknown() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/nowhere");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertEquals(1, summary("POST", "UNKNOWN", "statement").count());
+    }
+
+    @Test
+    void afterCompletion_withoutScope_shouldRecordNothing() {
+        interceptor.afterCompletion(new MockHttpServletRequest(), new MockHttpServletResponse(), new Object(), null);
+
+        assertTrue(registry.find(HibernateRequestMetricsInterceptor.METRIC_NAME).meters().isEmpty());
+    }
+
+    private DistributionSummary summary(String method, String uri, String operation) {
+        return registry.get(HibernateRequestMetricsInterceptor.METRIC_NAME)
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("operation", operation)
+                .summary();
+    }
+}
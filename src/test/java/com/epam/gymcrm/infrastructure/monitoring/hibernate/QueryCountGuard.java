@@ -0,0 +1,39 @@
+package com.epam.gymcrm.infrastructure.monitoring.hibernate;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Fails a test when the guarded block prepares more Hibernate statements than allowed, e.g.
+ * {@code QueryCountGuard.assertMaxStatements(3, () -> traineeService.findByUsername("ali.veli"))}.
+ * Only meaningful when the block runs against a real session factory with statistics on.
+ */
+public final class QueryCountGuard {
+
+    private QueryCountGuard() {
+    }
+
+    public static <T> T assertMaxStatements(int maxStatements, Supplier<T> action) {
+        RequestStatistics.start();
+        T result;
+        RequestStatistics statistics;
+        try {
+            result = action.get();
+        } finally {
+            statistics = RequestStatistics.stop();
+        }
+        if (statistics.getStatements() > maxStatements) {
+            fail("Expected at most " + maxStatements + " statements but got " + statistics.getStatements()
+                    + " (" + statistics + ")");
+        }
+        return result;
+    }
+
+    public static void assertMaxStatements(int maxStatements, Runnable action) {
+        assertMaxStatements(maxStatements, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.epam.gymcrm.infrastructure.monitoring.hibernate;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RequestAwareStatisticsTest {
+
+    private static final String TRAINERS_ROLE = "com.epam.gymcrm.db.entity.TraineeEntity.trainers";
+
+    private final RequestAwareStatistics statistics = new RequestAwareStatistics(sessionFactory());
+
+    @AfterEach
+    void clearScopes() {
+        while (Objects.nonNull(RequestStatistics.stop())) {
+            // drop scopes a failed test left behind
+        }
+    }
+
+    @Test
+    void callbacks_shouldCountIntoCurrentScope_andGlobalStatistics() {
+        RequestStatistics scope = RequestStatistics.start();
+
+        statistics.prepareStatement();
+        statistics.prepareStatement();
+        statistics.loadEntity("com.epam.gymcrm.db.entity.TraineeEntity");
+        statistics.fetchEntity("com.epam.gymcrm.db.entity.UserEntity");
+        statistics.fetchCollection(TRAINERS_ROLE);
+        statistics.fetchCollection(TRAINERS_ROLE);
+        statistics.queryCacheHit("from TrainerEntity", "query-results");
+        statistics.queryCacheMiss("from TrainingTypeEntity", "query-results");
+
+        assertSame(scope, RequestStatistics.stop());
+        assertEquals(2, scope.getStatements());
+        assertEquals(1, scope.getEntityLoads());
+        assertEquals(1, scope.getEntityFetches());
+        assertEquals(2, scope.getCollectionFetches());
+        assertEquals(1, scope.getCacheHits());
+        assertEquals(1, scope.getCacheMisses());
+        assertEquals("TraineeEntity.trainers x2", scope.mostFetched());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void callbacks_withoutScope_shouldOnlyCountGlobally() {
+        statistics.prepareStatement();
+
+        assertNull(RequestStatistics.current());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void nestedScope_shouldAlsoCountIntoOuterScope() {
+        RequestStatistics outer = RequestStatistics.start();
+        statistics.prepareStatement();
+        RequestStatistics inner = RequestStatistics.start();
+        statistics.prepareStatement();
+
+        assertSame(inner, RequestStatistics.stop());
+        assertSame(outer, RequestStatistics.current());
+        assertEquals(1, inner.getStatements());
+        assertEquals(2, outer.getStatements());
+    }
+
+    @Test
+    void queryCountGuard_shouldFailWhenBlockExceedsLimit() {
+        assertEquals("ok", QueryCountGuard.assertMaxStatements(2, () -> {
+            statistics.prepareStatement();
+            return "ok";
+        }));
+
+        AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> QueryCountGuard.assertMaxStatements(1, () -> {
+                    statistics.prepareStatement();
+                    statistics.fetchCollection(TRAINERS_ROLE);
+                    statistics.prepareStatement();
+                }));
+        assertTrue(error.getMessage().contains("got 2"));
+        assertTrue(error.getMessage().contains("TraineeEntity.trainers x1"));
+        assertNull(RequestStatistics.current());
+    }
+
+    private static SessionFactoryImplementor sessionFactory() {
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class, RETURNS_DEEP_STUBS);
+        when(sessionFactory.getSessionFactoryOptions().getQueryStatisticsMaxSize()).thenReturn(100);
+        return sessionFactory;
+    }
+}
@@ -0,0 +1,82 @@
+package com.epam.gymcrm.infrastructure.monitoring.metrics;
+
+import com.epam.gymcrm.api.payload.response.TraineeProfileResponse;
+import com.epam.gymcrm.db.entity.TraineeEntity;
+import com.epam.gymcrm.db.repository.TraineeRepository;
+import com.epam.gymcrm.domain.exception.NotFoundException;
+import com.epam.gymcrm.domain.service.TraineeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MethodLatencyAspectTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final MethodLatencyAspect aspect = new MethodLatencyAspect(registry,
+            new Duration[]{Duration.ofMillis(100), Duration.ofMillis(500)});
+
+    @Test
+    void serviceCall_shouldBeTimedWithSuccessOutcome_andSloBuckets() {
+        TraineeService service = mock(TraineeService.class);
+        when(service.findByUsername("ali.veli")).thenReturn(mock(TraineeProfileResponse.class));
+
+        proxy(service).findByUsername("ali.veli");
+        proxy(service).findByUsername("ali.veli");
+
+        Timer timer = timer("service", "findByUsername", "success");
+        assertEquals(2, timer.count());
+        assertTrue(Arrays.stream(timer.takeSnapshot().histogramCounts())
+                .map(CountAtBucket::bucket)
+                .anyMatch(bucket -> bucket == Duration.ofMillis(500).toNanos()));
+    }
+
+    @Test
+    void serviceCall_shouldTagOutcomeWithExceptionName_andRethrow() {
+        TraineeService service = mock(TraineeService.class);
+        when(service.findByUsername("ghost")).thenThrow(new NotFoundException("no trainee"));
+
+        assertThrows(NotFoundException.class, () -> proxy(service).findByUsername("ghost"));
+
+        assertEquals(1, timer("service", "findByUsername", "NotFoundException").count());
+        assertNull(registry.find(MethodLatencyAspect.METRIC_NAME).tag("outcome", "success").timer());
+    }
+
+    @Test
+    void repositoryCall_shouldBeTaggedWithRepositoryInterface() {
+        TraineeRepository repository = mock(TraineeRepository.class);
+        when(repository.findByUserUsername("ali.veli")).thenReturn(Optional.of(new TraineeEntity()));
+
+        proxy(repository).findByUserUsername("ali.veli");
+
+        Timer timer = registry.get(MethodLatencyAspect.METRIC_NAME)
+                .tag("layer", "repository")
+                .tag("type", "TraineeRepository")
+                .tag("method", "findByUserUsername")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    private Timer timer(String layer, String method, String outcome) {
+        return registry.get(MethodLatencyAspect.METRIC_NAME)
+                .tag("layer", layer)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+    }
+
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+}
@@ -26,6 +26,9 @@ class TraineeMetricsTest {
     @Mock
     private Counter trainerUpdatedCounter;
 
+    @Mock
+    private Counter trainerReassignedCounter;
+
     @Mock
     private Counter activatedCounter;
 
@@ -39,6 +42,7 @@ class TraineeMetricsTest {
         when(meterRegistry.counter("trainee_registered_total")).thenReturn(registeredCounter);
         when(meterRegistry.counter("trainee_updated_total")).thenReturn(updatedCounter);
         when(meterRegistry.counter("trainee_trainers_updated_total")).thenReturn(trainerUpdatedCounter);
+        when(meterRegistry.counter("trainee_trainers_reassigned_total")).thenReturn(trainerReassignedCounter);
         when(meterRegistry.counter("trainee_activated_total")).thenReturn(activatedCounter);
         when(meterRegistry.counter("trainee_deactivated_total")).thenReturn(deactivatedCounter);
 
@@ -63,6 +67,12 @@ class TraineeMetricsTest {
         verify(trainerUpdatedCounter).increment();
     }
 
+    @Test
+    void shouldIncrementTrainerReassignedCounterByTraineeCount() {
+        traineeMetrics.incrementTrainerReassigned(3);
+        verify(trainerReassignedCounter).increment(3);
+    }
+
     @Test
     void shouldIncrementActivatedCounter() {
         traineeMetrics.incrementActivated();
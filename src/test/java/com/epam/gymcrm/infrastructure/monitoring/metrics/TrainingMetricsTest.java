@@ -20,11 +20,19 @@ class TrainingMetricsTest {
     @Mock
     private Counter createdCounter;
 
+    @Mock
+    private Counter importedCounter;
+
+    @Mock
+    private Counter rejectedCounter;
+
     private TrainingMetrics trainingMetrics;
 
     @BeforeEach
     void setUp() {
         when(meterRegistry.counter("training_created_total")).thenReturn(createdCounter);
+        when(meterRegistry.counter("training_imported_total")).thenReturn(importedCounter);
+        when(meterRegistry.counter("training_import_rejected_total")).thenReturn(rejectedCounter);
         trainingMetrics = new TrainingMetrics(meterRegistry);
     }
 
@@ -33,4 +41,12 @@ class TrainingMetricsTest {
         trainingMetrics.incrementCreated();
         verify(createdCounter).increment();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldIncrementImportCountersByRowCount() {
+        trainingMetrics.incrementImported(12);
+        trainingMetrics.incrementImportRejected(3);
+        verify(importedCounter).increment(12);
+        verify(rejectedCounter).increment(3);
+    }
+}
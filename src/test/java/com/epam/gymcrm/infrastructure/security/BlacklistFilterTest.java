@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,11 +13,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -29,8 +32,6 @@ class BlacklistFilterTest {
     @Mock
     private TokenBlacklist blacklist;
     @Mock
-    private JwtDecoder jwtDecoder;
-    @Mock
     private FilterChain chain;
 
     private BlacklistFilter filter;
@@ -41,10 +42,15 @@ class BlacklistFilterTest {
                 .registerModule(new JavaTimeModule())
                 .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
-        filter = new BlacklistFilter(blacklist, jwtDecoder, objectMapper);
+        filter = new BlacklistFilter(blacklist, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
-    private Jwt jwt(String token, String jti) {
+    private void authenticate(String token, String jti) {
         Instant now = Instant.now();
 
         Map<String, Object> headers = Map.of("alg", "HS256");
@@ -55,64 +61,66 @@ class BlacklistFilterTest {
             claims.put("jti", jti);
         }
 
-        return new Jwt(token, now, now.plusSeconds(600), headers, claims);
+        Jwt jwt = new Jwt(token, now, now.plusSeconds(600), headers, claims);
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
     }
 
     @Test
-    void doFilter_shouldPassThrough_whenNoAuthorizationHeader() throws Exception {
+    void doFilter_shouldPassThrough_whenNotAuthenticated() throws Exception {
         MockHttpServletRequest req = new MockHttpServletRequest();
         MockHttpServletResponse res = new MockHttpServletResponse();
 
         filter.doFilterInternal(req, res, chain);
 
-        verifyNoInteractions(jwtDecoder, blacklist);
+        verifyNoInteractions(blacklist);
         verify(chain).doFilter(req, res);
         assertThat(res.getStatus()).isEqualTo(200); // default
     }
 
     @Test
-    void doFilter_shouldPassThrough_whenAuthorizationIsNotBearer() throws Exception {
+    void doFilter_shouldPassThrough_whenAuthenticationIsNotJwt() throws Exception {
         MockHttpServletRequest req = new MockHttpServletRequest();
-        req.addHeader("Authorization", "Basic abc");
         MockHttpServletResponse res = new MockHttpServletResponse();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("john", null, List.of()));
 
         filter.doFilterInternal(req, res, chain);
 
-        verifyNoInteractions(jwtDecoder, blacklist);
+        verifyNoInteractions(blacklist);
         verify(chain).doFilter(req, res);
     }
 
     @Test
-    void doFilter_shouldPassThrough_whenTokenDecodedAndJtiNotBlacklisted() throws Exception {
+    void doFilter_shouldPassThrough_whenJtiNotBlacklisted() throws Exception {
         MockHttpServletRequest req = new MockHttpServletRequest();
         req.addHeader("Authorization", "Bearer TOK123");
         MockHttpServletResponse res = new MockHttpServletResponse();
+        authenticate("TOK123", "jti-1");
 
-        when(jwtDecoder.decode("TOK123")).thenReturn(jwt("TOK123", "jti-1"));
         when(blacklist.isInvalid("jti-1")).thenReturn(false);
 
         filter.doFilterInternal(req, res, chain);
 
-        verify(jwtDecoder).decode("TOK123");
         verify(blacklist).isInvalid("jti-1");
         verify(chain).doFilter(req, res);
         assertThat(res.getStatus()).isEqualTo(200);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
     }
 
     @Test
-    void doFilter_shouldReturn401Json_whenTokenInvalidated() throws Exception {
+    void doFilter_shouldReturn401Json_andClearContext_whenTokenInvalidated() throws Exception {
         MockHttpServletRequest req = new MockHttpServletRequest();
         req.addHeader("Authorization", "Bearer TOK999");
         MockHttpServletResponse res = new MockHttpServletResponse();
+        authenticate("TOK999", "dead-jti");
 
-        when(jwtDecoder.decode("TOK999")).thenReturn(jwt("TOK999", "dead-jti"));
         when(blacklist.isInvalid("dead-jti")).thenReturn(true);
 
         filter.doFilterInternal(req, res, chain);
 
-        verify(jwtDecoder).decode("TOK999");
         verify(blacklist).isInvalid("dead-jti");
         verify(chain, never()).doFilter(any(), any());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
 
         assertThat(res.getStatus()).isEqualTo(401);
         assertThat(res.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
@@ -124,36 +132,17 @@ class BlacklistFilterTest {
         assertThat(body).contains("jti=dead-jti");
     }
 
-
-    @Test
-    void doFilter_shouldPassThrough_whenDecoderThrowsJwtException() throws Exception {
-        MockHttpServletRequest req = new MockHttpServletRequest();
-        req.addHeader("Authorization", "Bearer BROKEN");
-        MockHttpServletResponse res = new MockHttpServletResponse();
-
-        when(jwtDecoder.decode("BROKEN")).thenThrow(new JwtException("bad token"));
-
-        filter.doFilterInternal(req, res, chain);
-
-        verify(jwtDecoder).decode("BROKEN");
-        verifyNoInteractions(blacklist);
-        verify(chain).doFilter(req, res);
-        assertThat(res.getStatus()).isEqualTo(200);
-    }
-
     @Test
     void doFilter_shouldPassThrough_whenJtiIsNull() throws Exception {
         MockHttpServletRequest req = new MockHttpServletRequest();
         req.addHeader("Authorization", "Bearer TOK_NO_JTI");
         MockHttpServletResponse res = new MockHttpServletResponse();
-
-        when(jwtDecoder.decode("TOK_NO_JTI")).thenReturn(jwt("TOK_NO_JTI", null));
+        authenticate("TOK_NO_JTI", null);
 
         filter.doFilterInternal(req, res, chain);
 
-        verify(jwtDecoder).decode("TOK_NO_JTI");
         verifyNoInteractions(blacklist);
         verify(chain).doFilter(req, res);
     }
 
-}
\ No newline at end of file
+}
@@ -1,21 +1,57 @@
 package com.epam.gymcrm.infrastructure.security;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class BruteForceServiceTest {
 
+    // Start of a 15 minute window
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T10:00:00Z"));
+    private BruteForceService svc;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        if (svc != null) svc.shutdown();
+    }
+
+    private BruteForceService service(int maxAttempts, double blockMinutes) {
+        return service(maxAttempts, blockMinutes, 20);
+    }
+
+    private BruteForceService service(int maxAttempts, double blockMinutes, int ipMaxAttempts) {
+        svc = new BruteForceService(new InMemoryLoginAttemptStore(new SimpleMeterRegistry(), 1000),
+                maxAttempts, blockMinutes, ipMaxAttempts, 15, 3600, clock);
+        return svc;
+    }
+
+    private static void fromAddress(String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(ip);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
     @Test
     void initially_notBlocked_and_retryAfterZero() {
-        BruteForceService svc = new BruteForceService(3, 1.0);
+        service(3, 1.0);
         assertFalse(svc.isBlocked("ali"));
         assertEquals(0, svc.retryAfterSeconds("ali"));
     }
 
     @Test
     void belowThreshold_registerFailure_doesNotBlock() {
-        BruteForceService svc = new BruteForceService(3, 1.0);
+        service(3, 1.0);
 
         svc.registerFailure("ali");
         assertFalse(svc.isBlocked("ali"));
@@ -28,7 +64,7 @@ class BruteForceServiceTest {
 
     @Test
     void atThreshold_blocks_and_retryAfterPositive() {
-        BruteForceService svc = new BruteForceService(2, 0.001);
+        service(2, 1.0);
 
         svc.registerFailure("ali");
         assertFalse(svc.isBlocked("ali"));
@@ -36,17 +72,17 @@ class BruteForceServiceTest {
         svc.registerFailure("ali");
         assertTrue(svc.isBlocked("ali"));
 
-        assertTrue(svc.retryAfterSeconds("ali") >= 1);
+        assertEquals(60, svc.retryAfterSeconds("ali"));
     }
 
     @Test
-    void afterBlockExpires_notBlocked_and_retryAfterZero() throws InterruptedException {
-        BruteForceService svc = new BruteForceService(1, 0.001);
+    void afterBlockExpires_notBlocked_and_retryAfterZero() {
+        service(1, 1.0);
 
         svc.registerFailure("ali");
         assertTrue(svc.isBlocked("ali"));
 
-        Thread.sleep(80);
+        clock.advanceSeconds(61);
 
         assertFalse(svc.isBlocked("ali"));
         assertEquals(0, svc.retryAfterSeconds("ali"));
@@ -54,7 +90,7 @@ class BruteForceServiceTest {
 
     @Test
     void registerSuccess_clearsState() {
-        BruteForceService svc = new BruteForceService(1, 1.0);
+        service(1, 1.0);
 
         svc.registerFailure("ali");
         assertTrue(svc.isBlocked("ali"));
@@ -66,7 +102,118 @@ class BruteForceServiceTest {
 
     @Test
     void retryAfterSeconds_forUnknownUser_isZero() {
-        BruteForceService svc = new BruteForceService(3, 1.0);
+        service(3, 1.0);
         assertEquals(0, svc.retryAfterSeconds("unknown"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void slidingWindow_countsRecentFailuresFromPreviousWindow() {
+        service(3, 1.0);
+
+        svc.registerFailure("ali");
+        svc.registerFailure("ali");
+        // 5 minutes into the next window, two thirds of the previous one still overlap: 2 * 2/3 + 1
+        clock.advanceSeconds(20 * 60);
+        svc.registerFailure("ali");
+        assertFalse(svc.isBlocked("ali"));
+
+        svc.registerFailure("ali");
+        assertTrue(svc.isBlocked("ali"));
+    }
+
+    @Test
+    void slidingWindow_forgetsFailuresOlderThanTheWindow() {
+        service(3, 1.0);
+
+        svc.registerFailure("ali");
+        svc.registerFailure("ali");
+        clock.advanceSeconds(31 * 60);
+        svc.registerFailure("ali");
+
+        assertFalse(svc.isBlocked("ali"));
+    }
+
+    @Test
+    void clientAddress_isBlocked_afterFailuresAcrossUsernames() {
+        service(3, 1.0, 3);
+        fromAddress("10.0.0.7");
+
+        svc.registerFailure("user1");
+        svc.registerFailure("user2");
+        svc.registerFailure("user3");
+
+        assertTrue(svc.isBlocked("someone.else"));
+
+        fromAddress("10.0.0.8");
+        assertFalse(svc.isBlocked("someone.else"));
+    }
+
+    @Test
+    void registerAddressFailure_countsOnlyTheClientAddress() {
+        service(1, 1.0, 2);
+        fromAddress("10.0.0.7");
+
+        svc.registerAddressFailure();
+        assertFalse(svc.isAddressBlocked());
+        svc.registerAddressFailure();
+
+        assertTrue(svc.isAddressBlocked());
+        assertTrue(svc.addressRetryAfterSeconds() > 0);
+        fromAddress("10.0.0.8");
+        assertFalse(svc.isBlocked("anyone"));
+    }
+
+    @Test
+    void registerSuccess_doesNotClearClientAddressFailures() {
+        service(3, 1.0, 2);
+        fromAddress("10.0.0.7");
+
+        svc.registerFailure("victim");
+        svc.registerSuccess("attacker");
+        svc.registerFailure("victim2");
+
+        assertTrue(svc.isBlocked("attacker"));
+    }
+
+    @Test
+    void sweep_shouldPurgeExpiredState() {
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(new SimpleMeterRegistry(), 1000);
+        svc = new BruteForceService(store, 3, 1.0, 20, 15, 3600, clock);
+
+        svc.registerFailure("ali");
+        assertEquals(1, store.size());
+
+        clock.advanceSeconds(31 * 60);
+        svc.sweep();
+
+        assertEquals(0, store.size());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advanceSeconds(long seconds) {
+            now = now.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
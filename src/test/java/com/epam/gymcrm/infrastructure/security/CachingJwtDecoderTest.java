@@ -0,0 +1,53 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    @Mock
+    private JwtDecoder delegate;
+
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new CachingJwtDecoder(delegate, new VerifiedJwtCache(new SimpleMeterRegistry(), 100));
+    }
+
+    @Test
+    void decode_shouldVerifyOnce_andServeRepeatsFromCache() {
+        Instant now = Instant.now();
+        Jwt jwt = new Jwt("TOK", now, now.plusSeconds(600), Map.of("alg", "HS256"), Map.of("sub", "john.doe"));
+        when(delegate.decode("TOK")).thenReturn(jwt);
+
+        assertSame(jwt, decoder.decode("TOK"));
+        assertSame(jwt, decoder.decode("TOK"));
+
+        verify(delegate, times(1)).decode("TOK");
+    }
+
+    @Test
+    void decode_shouldNotCacheRejectedTokens() {
+        when(delegate.decode("BAD")).thenThrow(new BadJwtException("bad signature"));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("BAD"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("BAD"));
+
+        verify(delegate, times(2)).decode("BAD");
+    }
+}
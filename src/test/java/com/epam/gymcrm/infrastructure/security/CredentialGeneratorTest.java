@@ -0,0 +1,62 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CredentialGeneratorTest {
+
+    @Test
+    void password_shouldUseDefaultLengthAndPrintableAscii() {
+        String pwd = new CredentialGenerator(10, "").password();
+
+        assertEquals(10, pwd.length());
+        assertTrue(pwd.chars().allMatch(c -> c >= 33 && c <= 126), pwd);
+    }
+
+    @Test
+    void password_shouldHonourConfiguredLengthAndAlphabet() {
+        CredentialGenerator generator = new CredentialGenerator(32, "abc123");
+
+        String pwd = generator.password();
+
+        assertEquals(32, pwd.length());
+        assertTrue(pwd.chars().allMatch(c -> "abc123".indexOf(c) >= 0), pwd);
+    }
+
+    @Test
+    void password_shouldSpreadEvenlyOverAlphabet() {
+        // 3 does not divide 256, a plain modulo would favour the first character
+        CredentialGenerator generator = new CredentialGenerator(1000, "xyz");
+        Map<Character, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            for (char c : generator.password().toCharArray()) {
+                counts.merge(c, 1, Integer::sum);
+            }
+        }
+
+        assertEquals(3, counts.size());
+        counts.values().forEach(n -> assertEquals(10_000, n, 500));
+    }
+
+    @Test
+    void password_shouldNotRepeat() {
+        CredentialGenerator generator = new CredentialGenerator(10, "");
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(seen.add(generator.password()));
+        }
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new CredentialGenerator(0, ""));
+        assertThrows(IllegalArgumentException.class, () -> new CredentialGenerator(10, "a"));
+        assertThrows(IllegalArgumentException.class, () -> new CredentialGenerator(10, "abca"));
+    }
+}
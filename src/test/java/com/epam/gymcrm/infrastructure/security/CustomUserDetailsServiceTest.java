@@ -1,7 +1,7 @@
 package com.epam.gymcrm.infrastructure.security;
 
-import com.epam.gymcrm.db.entity.UserEntity;
 import com.epam.gymcrm.db.repository.UserRepository;
+import com.epam.gymcrm.db.repository.projection.UserCredentialsView;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -30,11 +30,8 @@ class CustomUserDetailsServiceTest {
     @Test
     void loadUserByUsername_returnsUserDetails_whenUserExistsAndActive() {
         // arrange
-        UserEntity ue = new UserEntity();
-        ue.setUsername("ali.veli");
-        ue.setPassword("{bcrypt}hash");
-        ue.setActive(true);
-        when(userRepository.findByUsername("ali.veli")).thenReturn(Optional.of(ue));
+        UserCredentialsView ue = new UserCredentialsView(1L, "ali.veli", "{bcrypt}hash", true);
+        when(userRepository.findCredentialsByUsername("ali.veli")).thenReturn(Optional.of(ue));
 
         // act
         UserDetails details = service.loadUserByUsername("ali.veli");
@@ -52,17 +49,14 @@ class CustomUserDetailsServiceTest {
         assertNotNull(auths);
         assertTrue(auths.stream().anyMatch(a -> "ROLE_USER".equals(a.getAuthority())));
 
-        verify(userRepository).findByUsername("ali.veli");
+        verify(userRepository).findCredentialsByUsername("ali.veli");
     }
 
     @Test
     void loadUserByUsername_setsEnabledFalse_whenUserInactive() {
         // arrange
-        UserEntity ue = new UserEntity();
-        ue.setUsername("in.active");
-        ue.setPassword("hash");
-        ue.setActive(false);
-        when(userRepository.findByUsername("in.active")).thenReturn(Optional.of(ue));
+        UserCredentialsView ue = new UserCredentialsView(2L, "in.active", "hash", false);
+        when(userRepository.findCredentialsByUsername("in.active")).thenReturn(Optional.of(ue));
 
         // act
         UserDetails details = service.loadUserByUsername("in.active");
@@ -78,13 +72,13 @@ class CustomUserDetailsServiceTest {
 
     @Test
     void loadUserByUsername_throws_whenUserMissing() {
-        when(userRepository.findByUsername("missing")).thenReturn(Optional.empty());
+        when(userRepository.findCredentialsByUsername("missing")).thenReturn(Optional.empty());
 
         UsernameNotFoundException ex = assertThrows(
                 UsernameNotFoundException.class,
                 () -> service.loadUserByUsername("missing")
         );
         assertTrue(ex.getMessage().contains("missing"));
-        verify(userRepository).findByUsername("missing");
+        verify(userRepository).findCredentialsByUsername("missing");
     }
 }
\ No newline at end of file
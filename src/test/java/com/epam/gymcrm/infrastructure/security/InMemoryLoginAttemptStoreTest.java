@@ -0,0 +1,64 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryLoginAttemptStoreTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private static LoginAttempts attempts(int current, long expiresAtMs) {
+        return new LoginAttempts(0, current, 0, 0, expiresAtMs);
+    }
+
+    @Test
+    void update_shouldApplyChangeToCurrentState() {
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(registry, 100);
+
+        store.update("user:ali", p -> attempts(1, 1000));
+        LoginAttempts next = store.update("user:ali", p -> attempts(p.current() + 1, 1000));
+
+        assertEquals(2, next.current());
+        assertEquals(next, store.get("user:ali"));
+    }
+
+    @Test
+    void update_shouldStayWithinCapacity_andCountEvictions() {
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(registry, 64);
+
+        for (int i = 0; i < 10_000; i++) {
+            store.update("user:random-" + i, p -> attempts(1, Long.MAX_VALUE));
+        }
+
+        assertTrue(store.size() <= 64, "size=" + store.size());
+        assertEquals(64.0, registry.get("login_attempts_capacity").gauge().value());
+        assertEquals(store.size(), registry.get("login_attempts_entries").gauge().value());
+        assertEquals(10_000 - store.size(), registry.get("login_attempts_evicted_total").counter().count());
+    }
+
+    @Test
+    void purgeExpired_shouldRemoveOnlyExpiredEntries() {
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(registry, 100);
+        store.update("user:old", p -> attempts(1, 1000));
+        store.update("user:new", p -> attempts(1, 5000));
+
+        assertEquals(1, store.purgeExpired(2000));
+
+        assertNull(store.get("user:old"));
+        assertNotNull(store.get("user:new"));
+    }
+
+    @Test
+    void remove_shouldDropKey() {
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(registry, 100);
+        store.update("user:ali", p -> attempts(1, 1000));
+
+        store.remove("user:ali");
+
+        assertNull(store.get("user:ali"));
+        assertEquals(0, store.size());
+    }
+}
@@ -0,0 +1,53 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTokenBlacklistStoreTest {
+
+    private final InMemoryTokenBlacklistStore store = new InMemoryTokenBlacklistStore();
+
+    @Test
+    void isRevoked_shouldBeTrueUntilExpiry_thenRemoveEntry() {
+        store.revoke("FUTURE", Instant.now().plusSeconds(60));
+        store.revoke("PAST", Instant.now().minusSeconds(1));
+
+        assertTrue(store.isRevoked("FUTURE"));
+        assertFalse(store.isRevoked("PAST"));
+        assertFalse(store.isRevoked("UNKNOWN"));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void forEachActive_shouldSkipExpired() {
+        store.revoke("FUTURE", Instant.now().plusSeconds(60));
+        store.revoke("PAST", Instant.now().minusSeconds(1));
+        List<String> active = new ArrayList<>();
+
+        store.forEachActive(active::add);
+
+        assertEquals(List.of("FUTURE"), active);
+    }
+
+    @Test
+    void purgeExpired_shouldRemoveOnlyExpired() {
+        store.revoke("FUTURE", Instant.now().plusSeconds(60));
+        store.revoke("PAST", Instant.now().minusSeconds(1));
+
+        assertEquals(1, store.purgeExpired());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void forEachRevokedSince_shouldReturnWatermarkUnchanged() {
+        Instant since = Instant.now();
+        store.revoke("FUTURE", Instant.now().plusSeconds(60));
+
+        assertEquals(since, store.forEachRevokedSince(since, jti -> fail("local store has no remote revocations")));
+    }
+}
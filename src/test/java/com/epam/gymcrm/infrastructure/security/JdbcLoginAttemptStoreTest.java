@@ -0,0 +1,83 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the store against H2 in PostgreSQL mode, created from the shipped schema script.
+ */
+class JdbcLoginAttemptStoreTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcLoginAttemptStore store;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/security/login-attempts.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        store = node();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    private JdbcLoginAttemptStore node() {
+        return new JdbcLoginAttemptStore(new JdbcTemplate(dataSource), new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void update_shouldStartNewKeyFromZero_andBeVisibleToAnotherNode() {
+        LoginAttempts stored = store.update("user:ali",
+                p -> new LoginAttempts(p.windowStartMs(), p.current() + 1, 0, 9000, 10_000));
+
+        assertEquals(1, stored.current());
+        assertEquals(stored, node().get("user:ali"));
+        assertNull(node().get("user:unknown"));
+    }
+
+    @Test
+    void update_shouldSerializeConcurrentFailuresFromDifferentNodes() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 40; i++) {
+            JdbcLoginAttemptStore node = node();
+            pool.submit(() -> node.update("ip:10.0.0.7",
+                    p -> new LoginAttempts(0, p.current() + 1, 0, 0, Long.MAX_VALUE)));
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(40, store.get("ip:10.0.0.7").current());
+    }
+
+    @Test
+    void removeAndPurge_shouldDeleteRows() {
+        store.update("user:a", p -> new LoginAttempts(0, 1, 0, 0, 1000));
+        store.update("user:b", p -> new LoginAttempts(0, 1, 0, 0, 5000));
+        store.update("user:c", p -> new LoginAttempts(0, 1, 0, 0, 5000));
+
+        store.remove("user:c");
+        assertEquals(1, store.purgeExpired(2000));
+
+        assertNull(store.get("user:a"));
+        assertNotNull(store.get("user:b"));
+        assertNull(store.get("user:c"));
+    }
+}
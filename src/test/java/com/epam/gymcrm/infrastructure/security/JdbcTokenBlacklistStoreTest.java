@@ -0,0 +1,135 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the store against H2 in PostgreSQL mode, created from the shipped schema script.
+ */
+class JdbcTokenBlacklistStoreTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcTokenBlacklistStore store;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/blacklist/revoked-tokens.sql")).execute(dataSource);
+        jdbcTemplate = spy(new JdbcTemplate(dataSource));
+        store = new JdbcTokenBlacklistStore(jdbcTemplate, 5, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void revoke_shouldBeVisibleToAnotherNode() {
+        JdbcTokenBlacklistStore otherNode = new JdbcTokenBlacklistStore(new JdbcTemplate(jdbcTemplate.getDataSource()), 5, 100);
+
+        store.revoke("JTI-1", Instant.now().plusSeconds(60));
+
+        assertTrue(otherNode.isRevoked("JTI-1"));
+        assertFalse(otherNode.isRevoked("JTI-2"));
+    }
+
+    @Test
+    void revoke_shouldIgnoreDuplicates() {
+        Instant exp = Instant.now().plusSeconds(60);
+
+        store.revoke("JTI-1", exp);
+        store.revoke("JTI-1", exp);
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM revoked_tokens", Integer.class));
+    }
+
+    @Test
+    void isRevoked_shouldBeFalse_whenRevocationExpired() {
+        store.revoke("OLD", Instant.now().minusSeconds(1));
+
+        JdbcTokenBlacklistStore otherNode = new JdbcTokenBlacklistStore(new JdbcTemplate(jdbcTemplate.getDataSource()), 5, 100);
+        assertFalse(otherNode.isRevoked("OLD"));
+    }
+
+    @Test
+    void isRevoked_shouldServeRepeatedLookupsFromLocalCache() {
+        assertFalse(store.isRevoked("UNKNOWN"));
+        assertFalse(store.isRevoked("UNKNOWN"));
+
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(OffsetDateTime.class), eq("UNKNOWN"));
+    }
+
+    @Test
+    void isRevoked_shouldKeepRecentlyUsedEntries_whenCacheIsFull() {
+        store.revoke("HOT", Instant.now().plusSeconds(60));
+
+        for (int i = 0; i < 300; i++) {
+            assertFalse(store.isRevoked("COLD-" + i));
+            assertTrue(store.isRevoked("HOT"));
+        }
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(OffsetDateTime.class), eq("HOT"));
+        // 100 entries round up to 16 segments of 7
+        assertTrue(store.cachedEntries() <= 112);
+    }
+
+    @Test
+    void isRevoked_shouldRecheckDatabase_afterNegativeTtl() {
+        JdbcTokenBlacklistStore noNegativeCache = new JdbcTokenBlacklistStore(jdbcTemplate, 0, 100);
+        assertFalse(noNegativeCache.isRevoked("LATE"));
+
+        store.revoke("LATE", Instant.now().plusSeconds(60));
+
+        assertTrue(noNegativeCache.isRevoked("LATE"));
+    }
+
+    @Test
+    void forEachActive_shouldSkipExpired() {
+        store.revoke("ACTIVE", Instant.now().plusSeconds(60));
+        store.revoke("EXPIRED", Instant.now().minusSeconds(1));
+        List<String> active = new ArrayList<>();
+
+        store.forEachActive(active::add);
+
+        assertEquals(List.of("ACTIVE"), active);
+    }
+
+    @Test
+    void forEachRevokedSince_shouldReturnRecentRevocations_andAdvanceWatermark() {
+        Instant since = Instant.now().minus(1, ChronoUnit.HOURS);
+        store.revoke("RECENT", Instant.now().plusSeconds(60));
+        List<String> seen = new ArrayList<>();
+
+        Instant watermark = store.forEachRevokedSince(since, seen::add);
+
+        assertEquals(List.of("RECENT"), seen);
+        assertTrue(watermark.isAfter(since));
+    }
+
+    @Test
+    void purgeExpired_shouldDeleteExpiredRows() {
+        store.revoke("ACTIVE", Instant.now().plusSeconds(60));
+        store.revoke("EXPIRED", Instant.now().minusSeconds(1));
+
+        assertEquals(1, store.purgeExpired());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM revoked_tokens", Integer.class));
+    }
+}
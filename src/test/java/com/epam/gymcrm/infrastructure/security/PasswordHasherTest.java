@@ -0,0 +1,139 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import com.epam.gymcrm.domain.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordHasherTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        if (hasher != null) hasher.shutdown();
+    }
+
+    @Test
+    void encodeAndMatches_shouldDelegateToEncoder_andRecordLatency() {
+        hasher = new PasswordHasher(passwordEncoder, registry, 10, 1, 4, 1000);
+        when(passwordEncoder.encode("raw")).thenReturn("ENC");
+        when(passwordEncoder.matches("raw", "ENC")).thenReturn(true);
+
+        assertEquals("ENC", hasher.encode("raw"));
+        assertTrue(hasher.matches("raw", "ENC"));
+
+        assertEquals(1, registry.get("password_hashing_latency").tag("operation", "encode").timer().count());
+        assertEquals(1, registry.get("password_hashing_latency").tag("operation", "matches").timer().count());
+        assertNotNull(registry.find("executor.queued").tag("name", "password_hashing").gauge());
+    }
+
+    @Test
+    void encodeAsync_shouldEncodeOnPool_withoutBlockingCaller() throws Exception {
+        hasher = new PasswordHasher(passwordEncoder, registry, 10, 1, 4, 1000);
+        when(passwordEncoder.encode("raw")).thenAnswer(inv -> Thread.currentThread().getName());
+
+        String thread = hasher.encodeAsync("raw").get(5, TimeUnit.SECONDS);
+
+        assertTrue(thread.startsWith("password-hashing-"));
+        assertEquals(1, registry.get("password_hashing_latency").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void encode_shouldRethrowEncoderFailure() {
+        hasher = new PasswordHasher(passwordEncoder, registry, 10, 1, 4, 1000);
+        when(passwordEncoder.encode("raw")).thenThrow(new IllegalArgumentException("bad"));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> hasher.encode("raw"));
+        assertEquals("bad", ex.getMessage());
+    }
+
+    @Test
+    void encode_shouldRejectWithTooManyRequests_whenQueueIsFull() throws Exception {
+        hasher = new PasswordHasher(passwordEncoder, registry, 10, 1, 1, 5000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(passwordEncoder.encode("slow")).thenAnswer(inv -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "ENC";
+        });
+        when(passwordEncoder.encode("queued")).thenReturn("ENC2");
+
+        // One task running, one waiting in the queue
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("slow"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("queued"));
+        waitUntilQueued();
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class, () -> hasher.encode("third"));
+        assertEquals(1, ex.getRetryAfterSeconds());
+        assertEquals(1.0, registry.get("password_hashing_rejected_total").counter().count());
+
+        release.countDown();
+        assertEquals("ENC", running.get(5, TimeUnit.SECONDS));
+        assertEquals("ENC2", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void matches_shouldFailWithTooManyRequests_whenHashingTimesOut() {
+        hasher = new PasswordHasher(passwordEncoder, registry, 10, 1, 4, 50);
+        when(passwordEncoder.matches("raw", "ENC")).thenAnswer(inv -> {
+            Thread.sleep(2000);
+            return true;
+        });
+
+        assertThrows(TooManyRequestsException.class, () -> hasher.matches("raw", "ENC"));
+        assertEquals(1.0, registry.get("password_hashing_rejected_total").counter().count());
+    }
+
+    @Test
+    void matchesNothing_shouldVerifyAgainstOneDummyHash() {
+        hasher = new PasswordHasher(passwordEncoder, registry, 10, 1, 4, 1000);
+        when(passwordEncoder.encode(anyString())).thenReturn("DUMMY");
+
+        hasher.matchesNothing("guess-1");
+        hasher.matchesNothing("guess-2");
+
+        verify(passwordEncoder, times(1)).encode(anyString());
+        verify(passwordEncoder).matches("guess-1", "DUMMY");
+        verify(passwordEncoder).matches("guess-2", "DUMMY");
+    }
+
+    @Test
+    void needsRehash_shouldCompareStoredCostWithConfiguredStrength() {
+        hasher = new PasswordHasher(passwordEncoder, registry, 12, 1, 4, 1000);
+
+        assertTrue(hasher.needsRehash("$2a$10$abcdefghijklmnopqrstuv"));
+        assertTrue(hasher.needsRehash("$2b$14$abcdefghijklmnopqrstuv"));
+        assertFalse(hasher.needsRehash("$2a$12$abcdefghijklmnopqrstuv"));
+        assertFalse(hasher.needsRehash("{noop}plain"));
+        assertFalse(hasher.needsRehash(null));
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (registry.get("executor.queued").tag("name", "password_hashing").gauge().value() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
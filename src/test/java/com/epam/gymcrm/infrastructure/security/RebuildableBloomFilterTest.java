@@ -0,0 +1,71 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RebuildableBloomFilterTest {
+
+    private final Set<String> stored = new HashSet<>();
+    private final List<Instant> sinceCalls = new ArrayList<>();
+    private final AtomicReference<Instant> latest = new AtomicReference<>();
+    private Runnable duringLoad = () -> {};
+
+    private final RebuildableBloomFilter filter = new RebuildableBloomFilter(
+            new RebuildableBloomFilter.Source(this::forEach, this::forEachSince), 1000, 0.001);
+
+    private void forEach(Consumer<String> action) {
+        duringLoad.run();
+        stored.forEach(action);
+    }
+
+    private Instant forEachSince(Instant since, Consumer<String> action) {
+        sinceCalls.add(since);
+        stored.forEach(action);
+        return Objects.requireNonNullElse(latest.get(), since);
+    }
+
+    @Test
+    void mightContain_shouldBeTrueForEveryValue_untilRebuilt() {
+        assertTrue(filter.mightContain("anything"));
+
+        filter.rebuild();
+
+        assertFalse(filter.mightContain("anything"));
+    }
+
+    @Test
+    void put_duringRebuild_shouldReachTheNewFilter() {
+        stored.add("a");
+        duringLoad = () -> filter.put("b");
+
+        filter.rebuild();
+
+        assertTrue(filter.mightContain("a"));
+        assertTrue(filter.mightContain("b"));
+    }
+
+    @Test
+    void refresh_shouldReadBackOverlap_andOnlyMoveWatermarkForward() {
+        filter.rebuild();
+        Instant newer = Instant.now().plusSeconds(60);
+        latest.set(newer);
+        stored.add("remote");
+
+        filter.refresh();
+        latest.set(null);
+        filter.refresh();
+
+        assertTrue(filter.mightContain("remote"));
+        assertEquals(newer.minus(RebuildableBloomFilter.REFRESH_OVERLAP), sinceCalls.get(1));
+    }
+}
@@ -0,0 +1,68 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedLruCacheTest {
+
+    @Test
+    void put_shouldStayBounded_andReportEachEviction() {
+        AtomicInteger evictions = new AtomicInteger();
+        SegmentedLruCache<Integer, String> cache = new SegmentedLruCache<>(32, evictions::incrementAndGet);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, "v" + i);
+        }
+
+        assertEquals(cache.capacity(), cache.size());
+        assertEquals(1000 - cache.capacity(), evictions.get());
+    }
+
+    @Test
+    void put_shouldDropLeastRecentlyUsedEntry_ofAFullSegment() {
+        // Two entries per segment; 1, 17 and 33 share one
+        SegmentedLruCache<Integer, String> cache = new SegmentedLruCache<>(32);
+        cache.put(1, "a");
+        cache.put(17, "b");
+        cache.get(1);
+        cache.put(33, "c");
+
+        assertEquals("a", cache.get(1));
+        assertNull(cache.get(17));
+        assertEquals("c", cache.get(33));
+    }
+
+    @Test
+    void update_shouldSeeNullForMissingKey_andStoreTheResult() {
+        SegmentedLruCache<String, Integer> cache = new SegmentedLruCache<>(100);
+
+        assertEquals(1, cache.update("k", v -> Objects.isNull(v) ? 1 : v + 1));
+        assertEquals(2, cache.update("k", v -> Objects.isNull(v) ? 1 : v + 1));
+        assertEquals(2, cache.get("k"));
+    }
+
+    @Test
+    void remove_withValue_shouldLeaveReplacedEntries() {
+        SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(100);
+        cache.put("k", "new");
+
+        cache.remove("k", "old");
+
+        assertEquals("new", cache.get("k"));
+    }
+
+    @Test
+    void removeIf_shouldReturnHowManyEntriesWentAway() {
+        SegmentedLruCache<Integer, Integer> cache = new SegmentedLruCache<>(100);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, i);
+        }
+
+        assertEquals(5, cache.removeIf(v -> v % 2 == 0));
+        assertEquals(5, cache.size());
+    }
+}
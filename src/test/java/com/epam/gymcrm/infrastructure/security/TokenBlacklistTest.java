@@ -4,27 +4,29 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.time.Instant;
-import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 class TokenBlacklistTest {
 
-    private final TokenBlacklist blacklist = new TokenBlacklist();
+    private final VerifiedJwtCache jwtCache = mock(VerifiedJwtCache.class);
+    private TokenBlacklist blacklist;
 
     @AfterEach
     void tearDown() {
         blacklist.shutdown();
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<String, Long> getStore() throws Exception {
-        Field f = TokenBlacklist.class.getDeclaredField("store");
-        f.setAccessible(true);
-        return (Map<String, Long>) f.get(blacklist);
+    private TokenBlacklist blacklist(TokenBlacklistStore store) {
+        // Long periods keep the background tasks out of the way, tests call them directly
+        blacklist = new TokenBlacklist(store, jwtCache, 3600, 3600, 1000, 0.01);
+        return blacklist;
     }
 
     private ScheduledExecutorService getSweeper() throws Exception {
@@ -33,52 +35,113 @@ class TokenBlacklistTest {
         return (ScheduledExecutorService) f.get(blacklist);
     }
 
-    private void callSweep() throws Exception {
-        Method m = TokenBlacklist.class.getDeclaredMethod("sweep");
-        m.setAccessible(true);
-        m.invoke(blacklist);
-    }
-
     @Test
     void invalidate_thenIsInvalidTrue_beforeExpiry() {
+        blacklist(new InMemoryTokenBlacklistStore()).warmUp();
         String jti = "JTI-FUTURE";
-        Instant exp = Instant.now().plusSeconds(3600);
 
-        blacklist.invalidate(jti, exp);
+        blacklist.invalidate(jti, Instant.now().plusSeconds(3600));
 
         assertTrue(blacklist.isInvalid(jti), "Future expiry should be considered invalid (blacklisted)");
         assertTrue(blacklist.isInvalid(jti));
     }
 
     @Test
-    void isInvalidReturnsFalse_andRemoves_whenExpiredEntry() throws Exception {
-        String jti = "JTI-EXPIRED";
-        Instant past = Instant.now().minusSeconds(1);
+    void invalidate_shouldEvictVerifiedJwtsWithThatJti() {
+        blacklist(new InMemoryTokenBlacklistStore()).warmUp();
+
+        blacklist.invalidate("JTI-CACHED", Instant.now().plusSeconds(3600));
+
+        verify(jwtCache).evict("JTI-CACHED");
+    }
+
+    @Test
+    void isInvalidReturnsFalse_whenExpiredEntry() {
+        blacklist(new InMemoryTokenBlacklistStore()).warmUp();
+
+        blacklist.invalidate("JTI-EXPIRED", Instant.now().minusSeconds(1));
+
+        assertFalse(blacklist.isInvalid("JTI-EXPIRED"));
+    }
+
+    @Test
+    void isInvalid_shouldNotQueryStore_whenFilterRulesTokenOut() {
+        TokenBlacklistStore store = mock(TokenBlacklistStore.class);
+        blacklist(store).warmUp();
 
-        blacklist.invalidate(jti, past);
+        assertFalse(blacklist.isInvalid("never-revoked"));
 
-        assertFalse(blacklist.isInvalid(jti));
+        verify(store, never()).isRevoked(anyString());
+    }
+
+    @Test
+    void isInvalid_shouldQueryStore_beforeWarmUp() {
+        TokenBlacklistStore store = mock(TokenBlacklistStore.class);
+        when(store.isRevoked("REVOKED-BEFORE-RESTART")).thenReturn(true);
+        blacklist(store);
 
-        Map<String, Long> store = getStore();
-        assertFalse(store.containsKey(jti), "Expired entry should be removed from store");
+        assertTrue(blacklist.isInvalid("REVOKED-BEFORE-RESTART"));
     }
 
     @Test
-    void sweepRemovesOnlyExpiredEntries() throws Exception {
-        String expiredJti = "EXPIRED";
-        String futureJti = "FUTURE";
-        blacklist.invalidate(expiredJti, Instant.now().minusSeconds(5));
-        blacklist.invalidate(futureJti, Instant.now().plusSeconds(120));
+    void warmUp_shouldLoadActiveRevocationsFromStore() {
+        TokenBlacklistStore store = mock(TokenBlacklistStore.class);
+        doAnswer(inv -> {
+            inv.<Consumer<String>>getArgument(0).accept("PERSISTED");
+            return null;
+        }).when(store).forEachActive(any());
+        when(store.isRevoked("PERSISTED")).thenReturn(true);
+
+        blacklist(store).warmUp();
 
-        callSweep();
+        assertTrue(blacklist.isInvalid("PERSISTED"));
+    }
+
+    @Test
+    void refresh_shouldPickUpRevocationsFromOtherNodes() {
+        TokenBlacklistStore store = mock(TokenBlacklistStore.class);
+        blacklist(store).warmUp();
+        Instant watermark = Instant.now();
+        doAnswer(inv -> {
+            inv.<Consumer<String>>getArgument(1).accept("REMOTE");
+            return watermark;
+        }).when(store).forEachRevokedSince(any(), any());
+        when(store.isRevoked("REMOTE")).thenReturn(true);
+
+        assertFalse(blacklist.isInvalid("REMOTE"));
+        blacklist.refresh();
+
+        assertTrue(blacklist.isInvalid("REMOTE"));
+    }
+
+    @Test
+    void sweep_shouldPurgeExpired_andDropThemFromFilter() {
+        InMemoryTokenBlacklistStore store = spy(new InMemoryTokenBlacklistStore());
+        blacklist(store).warmUp();
+        blacklist.invalidate("EXPIRED", Instant.now().minusSeconds(5));
+        blacklist.invalidate("FUTURE", Instant.now().plusSeconds(120));
+
+        blacklist.sweep();
+
+        assertEquals(1, store.size());
+        clearInvocations(store);
+        assertFalse(blacklist.isInvalid("EXPIRED"));
+        assertTrue(blacklist.isInvalid("FUTURE"));
+        verify(store, never()).isRevoked("EXPIRED");
+    }
+
+    @Test
+    void sweep_shouldSurviveStoreFailure() {
+        TokenBlacklistStore store = mock(TokenBlacklistStore.class);
+        when(store.purgeExpired()).thenThrow(new IllegalStateException("db down"));
+        blacklist(store);
 
-        Map<String, Long> store = getStore();
-        assertFalse(store.containsKey(expiredJti), "Expired entry must be swept");
-        assertTrue(store.containsKey(futureJti), "Non-expired entry must remain");
+        assertDoesNotThrow(() -> blacklist.sweep());
     }
 
     @Test
     void shutdownStopsSweeper() throws Exception {
+        blacklist(new InMemoryTokenBlacklistStore());
         ScheduledExecutorService sweeper = getSweeper();
         assertFalse(sweeper.isShutdown(), "Sweeper should be running before shutdown");
 
@@ -86,4 +149,4 @@ class TokenBlacklistTest {
 
         assertTrue(sweeper.isShutdown(), "Sweeper should be shutdown after shutdown()");
     }
-}
\ No newline at end of file
+}
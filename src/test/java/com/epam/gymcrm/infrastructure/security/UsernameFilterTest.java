@@ -0,0 +1,74 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against H2 in PostgreSQL mode with a bare users table plus the shipped created_at script.
+ */
+class UsernameFilterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private UsernameFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE users (id bigint PRIMARY KEY, username varchar(255) NOT NULL)");
+        new ResourceDatabasePopulator(new ClassPathResource("db/security/users-created-at.sql")).execute(dataSource);
+        jdbcTemplate.update("INSERT INTO users (id, username) VALUES (1, 'john.doe'), (2, 'jane.dev')");
+        // Long periods keep the background tasks out of the way, tests call them directly
+        filter = new UsernameFilter(jdbcTemplate, 3600, 600, 1000, 0.001);
+    }
+
+    @AfterEach
+    void tearDown() {
+        filter.shutdown();
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void mightExist_shouldBeTrueForEveryName_untilWarm() {
+        assertTrue(filter.mightExist("nobody"));
+    }
+
+    @Test
+    void warmUp_shouldLoadExistingUsernames_andRuleOutOthers() {
+        filter.warmUp();
+
+        assertTrue(filter.mightExist("john.doe"));
+        assertTrue(filter.mightExist("jane.dev"));
+        assertFalse(filter.mightExist("nobody"));
+    }
+
+    @Test
+    void add_shouldMakeNameKnownImmediately() {
+        filter.warmUp();
+
+        filter.add("new.user");
+
+        assertTrue(filter.mightExist("new.user"));
+    }
+
+    @Test
+    void refresh_shouldPickUpUsersRegisteredElsewhere() {
+        filter.warmUp();
+        jdbcTemplate.update("INSERT INTO users (id, username) VALUES (3, 'remote.user')");
+        assertFalse(filter.mightExist("remote.user"));
+
+        filter.refresh();
+
+        assertTrue(filter.mightExist("remote.user"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.epam.gymcrm.infrastructure.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedJwtCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private VerifiedJwtCache cache(int maxEntries, Instant now) {
+        return new VerifiedJwtCache(registry, maxEntries, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static Jwt jwt(String token, String jti, Instant exp, Instant nbf) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("sub", "john.doe");
+        claims.put("jti", jti);
+        if (nbf != null) claims.put("nbf", nbf);
+        return new Jwt(token, NOW.minusSeconds(60), exp, Map.of("alg", "HS256"), claims);
+    }
+
+    @Test
+    void get_shouldReturnCachedJwt_andCountHitsAndMisses() {
+        VerifiedJwtCache cache = cache(100, NOW);
+        Jwt jwt = jwt("TOKEN-1", "jti-1", NOW.plusSeconds(600), null);
+
+        assertNull(cache.get("TOKEN-1"));
+        cache.put(jwt);
+
+        assertSame(jwt, cache.get("TOKEN-1"));
+        assertEquals(1.0, registry.get("jwt_cache_requests_total").tag("result", "hit").counter().count());
+        assertEquals(1.0, registry.get("jwt_cache_requests_total").tag("result", "miss").counter().count());
+        assertEquals(0.5, registry.get("jwt_cache_hit_ratio").gauge().value());
+        assertEquals(1.0, registry.get("jwt_cache_size").gauge().value());
+    }
+
+    @Test
+    void get_shouldMiss_whenCachedTokenHasExpired() {
+        Jwt jwt = jwt("TOKEN-2", "jti-2", NOW.plusSeconds(60), null);
+        VerifiedJwtCache before = cache(100, NOW);
+        before.put(jwt);
+        assertSame(jwt, before.get("TOKEN-2"));
+
+        VerifiedJwtCache after = cache(100, NOW.plusSeconds(61));
+        after.put(jwt);
+
+        assertNull(after.get("TOKEN-2"));
+        assertEquals(0, after.size());
+    }
+
+    @Test
+    void get_shouldMiss_whenTokenNotYetValid() {
+        VerifiedJwtCache cache = cache(100, NOW);
+
+        cache.put(jwt("TOKEN-3", "jti-3", NOW.plusSeconds(600), NOW.plusSeconds(30)));
+
+        assertNull(cache.get("TOKEN-3"));
+    }
+
+    @Test
+    void put_shouldSkipTokensWithoutExpiry() {
+        VerifiedJwtCache cache = cache(100, NOW);
+
+        cache.put(jwt("TOKEN-4", "jti-4", null, null));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void evict_shouldRemoveEveryEntryWithThatJti() {
+        VerifiedJwtCache cache = cache(100, NOW);
+        cache.put(jwt("TOKEN-5", "jti-5", NOW.plusSeconds(600), null));
+        cache.put(jwt("TOKEN-6", "jti-6", NOW.plusSeconds(600), null));
+
+        cache.evict("jti-5");
+
+        assertNull(cache.get("TOKEN-5"));
+        assertNotNull(cache.get("TOKEN-6"));
+        assertEquals(1.0, registry.get("jwt_cache_revoked_total").counter().count());
+    }
+
+    @Test
+    void put_shouldStayBounded_evictingLeastRecentlyUsed() {
+        VerifiedJwtCache cache = cache(32, NOW);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put(jwt("TOKEN-" + i, "jti-" + i, NOW.plusSeconds(600), null));
+        }
+
+        assertTrue(cache.size() <= 32, "size=" + cache.size());
+        assertNotNull(cache.get("TOKEN-999"));
+        assertNull(cache.get("TOKEN-0"));
+    }
+}